@@ -0,0 +1,86 @@
+package org.example.expert.benchmark;
+
+import org.example.expert.ExpertApplication;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플랫폼 스레드 / 가상 스레드 요청 처리 모드별 HTTP 처리량 비교
+ * - Tomcat 스레드를 적게(maxThreads) 두고, 그보다 많은 동시 클라이언트(@Threads)로 목록 API를 호출
+ * - 커넥션 풀은 동시 요청 수보다 작게 두어 DB 대기가 생기도록 함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(200)
+@Fork(1)
+public class RequestThreadModeBenchmark {
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest request;
+
+    @Setup
+    public void setUp() {
+        context = SpringApplication.run(ExpertApplication.class,
+                "--server.port=0",
+                "--server.tomcat.threads.max=50",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--spring.datasource.url=jdbc:h2:mem:thread-mode;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.hikari.maximum-pool-size=20",
+                "--jwt.secret.key=YmVuY2htYXJrLXNlY3JldC1rZXktZm9yLWp3dC1obWFjLXNoYTI1Ni1zaWduaW5n",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN");
+
+        User user = context.getBean(UserRepository.class)
+                .save(new User("benchmark", "benchmark@example.com", "password", UserRole.USER));
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            todos.add(new Todo("title" + i, "contents" + i, "Sunny", user));
+        }
+        context.getBean(TodoRepository.class).saveAll(todos);
+
+        String bearerToken = context.getBean(JwtUtil.class)
+                .createToken(user.getId(), user.getNickname(), user.getEmail(), user.getUserRole());
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+        httpClient = HttpClient.newHttpClient();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/todos/slice?size=20"))
+                .header("Authorization", bearerToken)
+                .GET()
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int getTodoSlice() throws Exception {
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
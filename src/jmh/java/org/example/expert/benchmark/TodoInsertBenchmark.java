@@ -0,0 +1,78 @@
+package org.example.expert.benchmark;
+
+import org.example.expert.ExpertApplication;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Todo(+ 작성자 Manager) 일괄 INSERT 처리량 측정
+ * - batchSize=1 은 JDBC 배치를 끈 경우, 나머지는 hibernate.jdbc.batch_size 값별 비교
+ * - 한 번의 호출에서 ROWS 건을 한 트랜잭션으로 저장
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class TodoInsertBenchmark {
+
+    private static final int ROWS = 500;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private TodoRepository todoRepository;
+    private TransactionTemplate transactionTemplate;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        SpringApplication application = new SpringApplication(ExpertApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run(
+                "--spring.datasource.url=jdbc:h2:mem:benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                "--spring.jpa.properties.hibernate.generate_statistics=false",
+                "--jwt.secret.key=YmVuY2htYXJrLXNlY3JldC1rZXktZm9yLWp3dC1obWFjLXNoYTI1Ni1zaWduaW5n",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN");
+
+        todoRepository = context.getBean(TodoRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        user = context.getBean(UserRepository.class)
+                .save(new User("benchmark", "benchmark@example.com", "password", UserRole.USER));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void insertTodos() {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Todo> todos = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                todos.add(new Todo("title" + i, "contents" + i, "Sunny", user));
+            }
+            todoRepository.saveAll(todos);
+        });
+    }
+}
@@ -1,28 +1,155 @@
 package org.example.expert.client;
 
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
+/**
+ * 날씨 API 클라이언트
+ * - weather.json 전체를 받아 날짜(MM-dd)별 날씨 Map으로 캐싱
+ * - 자정 전에 다음 날 기준으로 미리 갱신하고, 캐시가 지난 날짜 기준이면 기존 값을 반환하면서 백그라운드에서 갱신
+ * - 갱신에 실패하면 기존 캐시를 계속 사용
+ * - 외부 호출은 서킷 브레이커 + 벌크헤드를 거치며, 날씨를 구할 수 없으면 fallback 값을 반환
+ */
+@Slf4j
 @Component
 public class WeatherClient {
 
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
+
     private final RestTemplate restTemplate;
+    private final Supplier<Map<String, String>> guardedFetch;
+    private final String baseUrl;
+    private final String fallbackWeather;
+    private final Clock clock;
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "weather-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private volatile WeatherSnapshot snapshot;
+
+    @Autowired
+    public WeatherClient(
+            RestTemplate weatherRestTemplate,
+            CircuitBreaker weatherCircuitBreaker,
+            Bulkhead weatherBulkhead,
+            @Value("${weather.api.base-url:https://f-api.github.io}") String baseUrl,
+            @Value("${weather.fallback:Unknown}") String fallbackWeather) {
+        this(weatherRestTemplate, weatherCircuitBreaker, weatherBulkhead, baseUrl, fallbackWeather, Clock.systemDefaultZone());
+    }
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    // 날짜가 바뀌는 시점을 테스트에서 제어할 수 있도록 Clock을 받는 생성자
+    WeatherClient(
+            RestTemplate weatherRestTemplate,
+            CircuitBreaker weatherCircuitBreaker,
+            Bulkhead weatherBulkhead,
+            String baseUrl,
+            String fallbackWeather,
+            Clock clock) {
+        this.restTemplate = weatherRestTemplate;
+        this.baseUrl = baseUrl;
+        this.fallbackWeather = fallbackWeather;
+        this.clock = clock;
+        this.guardedFetch = CircuitBreaker.decorateSupplier(
+                weatherCircuitBreaker,
+                Bulkhead.decorateSupplier(weatherBulkhead, this::fetchWeatherByDate));
     }
 
     public String getTodayWeather() {
+        LocalDate today = LocalDate.now(clock);
+
+        WeatherSnapshot current = snapshot;
+        if (current == null) {
+            // 캐시가 비어 있는 최초 요청만 직접 조회
+            try {
+                current = loadSnapshot(today);
+            } catch (RuntimeException e) {
+                log.warn("날씨 데이터를 가져오지 못해 기본값을 사용합니다. reason: {}", e.getMessage());
+                return fallbackWeather;
+            }
+        } else if (current.isStale(today)) {
+            refreshAsync(today);
+        }
+
+        String weather = current.weatherByDate().get(today.format(DATE_FORMATTER));
+        if (weather == null) {
+            log.warn("오늘에 해당하는 날씨 데이터를 찾을 수 없어 기본값을 사용합니다.");
+            return fallbackWeather;
+        }
+        return weather;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refreshAsync(LocalDate.now(clock));
+    }
+
+    // 자정 직후 요청이 오래된 캐시를 보지 않도록 다음 날 기준으로 미리 갱신
+    @Scheduled(cron = "${weather.refresh-cron:0 50 23 * * *}")
+    public void refreshBeforeMidnight() {
+        refresh(LocalDate.now(clock).plusDays(1));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private void refreshAsync(LocalDate validFor) {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        refreshExecutor.execute(() -> {
+            try {
+                refresh(validFor);
+            } finally {
+                refreshing.set(false);
+            }
+        });
+    }
+
+    private void refresh(LocalDate validFor) {
+        try {
+            loadSnapshot(validFor);
+        } catch (RuntimeException e) {
+            log.warn("날씨 데이터 갱신에 실패해 기존 캐시를 사용합니다. reason: {}", e.getMessage());
+        }
+    }
+
+    private WeatherSnapshot loadSnapshot(LocalDate validFor) {
+        WeatherSnapshot loaded = new WeatherSnapshot(guardedFetch.get(), validFor);
+        snapshot = loaded;
+        return loaded;
+    }
+
+    private Map<String, String> fetchWeatherByDate() {
         ResponseEntity<WeatherDto[]> responseEntity =
                 restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
 
@@ -35,28 +162,29 @@ public class WeatherClient {
             throw new ServerException("날씨 데이터가 없습니다.");
         }
 
-        String today = getCurrentDate();
-
+        Map<String, String> weatherByDate = new HashMap<>();
         for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
+            if (weatherDto.getDate() != null && weatherDto.getWeather() != null) {
+                weatherByDate.put(weatherDto.getDate(), weatherDto.getWeather());
             }
         }
-
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        return Map.copyOf(weatherByDate);
     }
 
     private URI buildWeatherApiUri() {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
+                .fromUriString(baseUrl)
                 .path("/f-api/weather.json")
                 .encode()
                 .build()
                 .toUri();
     }
 
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
+    // validFor: 이 캐시를 최신으로 간주하는 날짜
+    private record WeatherSnapshot(Map<String, String> weatherByDate, LocalDate validFor) {
+
+        boolean isStale(LocalDate today) {
+            return validFor.isBefore(today);
+        }
     }
 }
@@ -0,0 +1,81 @@
+package org.example.expert.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증을 마친 JWT의 인증 사용자 캐시
+ * - 같은 토큰이 다시 들어오면 서명 검증과 claims 파싱 없이 AuthUser를 바로 반환
+ * - 토큰 원문 대신 SHA-256 해시를 키로 사용
+ * - 각 항목은 토큰의 만료 시각(exp)에 맞춰 제거되며, 전체 크기는 maximum-size로 제한
+ * - 비밀번호/권한이 바뀐 사용자의 항목은 invalidateUser로 제거해, 이후 요청은 토큰을 처음부터 다시 검증하도록 함
+ */
+@Component
+public class AuthUserCache {
+
+    private final Cache<String, CachedAuthUser> cache;
+
+    public AuthUserCache(@Value("${jwt.cache.maximum-size:10000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, CachedAuthUser>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedAuthUser value, long currentTime) {
+                        long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedAuthUser value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedAuthUser value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public AuthUser get(String token) {
+        CachedAuthUser cached = cache.getIfPresent(hash(token));
+        return cached != null ? cached.authUser() : null;
+    }
+
+    public void put(String token, AuthUser authUser, Date expiration) {
+        // 만료 시각이 없는 토큰은 캐시하지 않음
+        if (expiration == null) {
+            return;
+        }
+        cache.put(hash(token), new CachedAuthUser(authUser, expiration.getTime()));
+    }
+
+    // 사용자 id로 찾는 인덱스 없이 전체를 훑어 제거 (비밀번호/권한 변경 시에만 호출되므로 빈도가 낮음)
+    public void invalidateUser(long userId) {
+        cache.asMap().values().removeIf(cached -> cached.authUser().getId() == userId);
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record CachedAuthUser(AuthUser authUser, long expiresAtMillis) {
+    }
+}
@@ -4,6 +4,7 @@ import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SecurityException;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -27,6 +28,8 @@ import java.util.List;
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final AuthUserCache authUserCache;
+    private final JwtRejectionRecorder jwtRejectionRecorder;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain) throws IOException, ServletException {
@@ -34,63 +37,84 @@ public class JwtFilter extends OncePerRequestFilter {
         String bearerJwt = request.getHeader("Authorization");
 
         // 토큰이 없는 요청은 인증이 필요 없는 API로 판단하고 그대로 통과
-        if (!StringUtils.hasText(bearerJwt) || !bearerJwt.startsWith("Bearer ")) {
+        if (!StringUtils.hasText(bearerJwt) || !bearerJwt.startsWith(JwtUtil.BEARER_PREFIX)) {
             chain.doFilter(request, response);
             return;
         }
 
-        String jwt;
-        try {
-            jwt = jwtUtil.substringToken(bearerJwt); // "Bearer " 제거
-        } catch (Exception e) {
-            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않은 Authorization 헤더입니다");
+        String jwt = bearerJwt.substring(JwtUtil.BEARER_PREFIX.length()).trim(); // "Bearer " 제거
+        if (jwt.isEmpty()) {
+            reject(response, JwtRejectReason.INVALID_HEADER, "empty token");
             return;
         }
 
-        try {
-            // JWT 파싱 및 claims 추출
-            Claims claims = jwtUtil.extractClaims(jwt);
+        // 최근에 검증한 토큰이면 서명 검증/파싱 없이 캐시된 사용자 정보 사용
+        AuthUser authUser = authUserCache.get(jwt);
+        if (authUser == null) {
+            // 형식이 틀리거나 만료된 토큰은 서명 검증 전에 바로 거절
+            JwtRejectReason precheckFailure = jwtUtil.precheck(jwt);
+            if (precheckFailure != null) {
+                reject(response, precheckFailure, "precheck");
+                return;
+            }
+
+            JwtRejectReason failure;
+            try {
+                // JWT 파싱 및 claims 추출
+                Claims claims = jwtUtil.extractClaims(jwt);
+                authUser = toAuthUser(claims);
+                authUserCache.put(jwt, authUser, claims.getExpiration());
+                failure = null;
+            } catch (SecurityException e) {
+                failure = JwtRejectReason.INVALID_SIGNATURE;
+            } catch (MalformedJwtException e) {
+                failure = JwtRejectReason.MALFORMED;
+            } catch (ExpiredJwtException e) {
+                failure = JwtRejectReason.EXPIRED;
+            } catch (UnsupportedJwtException e) {
+                failure = JwtRejectReason.UNSUPPORTED;
+            } catch (RuntimeException e) {
+                // subject/userRole 등 claims 값이 올바르지 않은 경우
+                failure = JwtRejectReason.INVALID_CLAIMS;
+            }
+
+            if (failure != null) {
+                reject(response, failure, "verification");
+                return;
+            }
+        }
 
-            Long userId = Long.parseLong(claims.getSubject());
-            String nickname = claims.get("nickname", String.class);
-            String email = claims.get("email", String.class);
-            UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
+        SimpleGrantedAuthority authority =
+                new SimpleGrantedAuthority("ROLE_" + authUser.getUserRole().name());
 
-            AuthUser authUser = new AuthUser(userId, nickname, email, userRole);
+        // JWT 기반 인증이므로 password는 필요 없고,
+        // 토큰에서 추출한 사용자 정보로 Authentication 객체를 직접 생성
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(
+                        authUser,
+                        null,
+                        List.of(authority)
+                );
 
-            SimpleGrantedAuthority authority =
-                    new SimpleGrantedAuthority("ROLE_" + userRole.name());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            // JWT 기반 인증이므로 password는 필요 없고,
-            // 토큰에서 추출한 사용자 정보로 Authentication 객체를 직접 생성
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(
-                            authUser,
-                            null,
-                            List.of(authority)
-                    );
+        // 이후 필터/컨트롤러에서 발생한 예외는 인증 실패로 처리하지 않도록 try 밖에서 호출
+        chain.doFilter(request, response);
+    }
 
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+    // 스택 트레이스 없이 사유만 기록하고 응답
+    private void reject(HttpServletResponse response, JwtRejectReason reason, String detail) throws IOException {
+        jwtRejectionRecorder.record(reason, detail);
+        response.sendError(reason.getStatus(), reason.getMessage());
+    }
 
-            chain.doFilter(request, response);
+    private AuthUser toAuthUser(Claims claims) {
+        Long userId = Long.parseLong(claims.getSubject());
+        String nickname = claims.get("nickname", String.class);
+        String email = claims.get("email", String.class);
+        UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
 
-        } catch (SecurityException | MalformedJwtException e) {
-            log.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.", e);
-            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않는 JWT 서명입니다.");
-            return;
-        } catch (ExpiredJwtException e) {
-            log.error("Expired JWT token, 만료된 JWT token 입니다.", e);
-            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "만료된 JWT 토큰입니다.");
-            return;
-        } catch (UnsupportedJwtException e) {
-            log.error("Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.", e);
-            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "지원되지 않는 JWT 토큰입니다.");
-            return;
-        } catch (Exception e) {
-            log.error("Internal server error", e);
-            response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-            return;
-        }
+        return new AuthUser(userId, nickname, email, userRole);
     }
 
     // 인증/인가가 필요 없는 경로는 JWT 필터를 적용하지 않음
@@ -0,0 +1,27 @@
+package org.example.expert.config;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.Getter;
+
+/**
+ * JWT 인증 실패 사유
+ * - 사유별 응답 상태 코드/메시지와 메트릭 태그로 사용
+ */
+@Getter
+public enum JwtRejectReason {
+
+    INVALID_HEADER(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않은 Authorization 헤더입니다"),
+    MALFORMED(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않는 JWT 서명입니다."),
+    INVALID_SIGNATURE(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않는 JWT 서명입니다."),
+    EXPIRED(HttpServletResponse.SC_UNAUTHORIZED, "만료된 JWT 토큰입니다."),
+    UNSUPPORTED(HttpServletResponse.SC_BAD_REQUEST, "지원되지 않는 JWT 토큰입니다."),
+    INVALID_CLAIMS(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않은 JWT 토큰입니다.");
+
+    private final int status;
+    private final String message;
+
+    JwtRejectReason(int status, String message) {
+        this.status = status;
+        this.message = message;
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JWT 인증 실패 기록
+ * - 사유별 카운터(auth.jwt.rejected)로 집계
+ * - 잘못된 토큰이 몰려도 로그가 폭증하지 않도록 사유별로 일정 간격마다 한 줄만 남기고,
+ *   그 사이에 생략된 건수를 함께 출력 (스택 트레이스는 남기지 않음)
+ */
+@Slf4j
+@Component
+public class JwtRejectionRecorder {
+
+    private final Map<JwtRejectReason, Counter> counters = new EnumMap<>(JwtRejectReason.class);
+    private final Map<JwtRejectReason, AtomicLong> lastLoggedAt = new EnumMap<>(JwtRejectReason.class);
+    private final Map<JwtRejectReason, AtomicLong> suppressedCounts = new EnumMap<>(JwtRejectReason.class);
+    private final long logIntervalMillis;
+
+    public JwtRejectionRecorder(
+            MeterRegistry meterRegistry,
+            @Value("${jwt.rejection-log.interval-ms:10000}") long logIntervalMillis) {
+        this.logIntervalMillis = logIntervalMillis;
+        for (JwtRejectReason reason : JwtRejectReason.values()) {
+            counters.put(reason, Counter.builder("auth.jwt.rejected")
+                    .description("Rejected JWT authentication attempts")
+                    .tag("reason", reason.name().toLowerCase())
+                    .register(meterRegistry));
+            lastLoggedAt.put(reason, new AtomicLong());
+            suppressedCounts.put(reason, new AtomicLong());
+        }
+    }
+
+    public void record(JwtRejectReason reason, String detail) {
+        counters.get(reason).increment();
+
+        long now = System.currentTimeMillis();
+        AtomicLong lastLogged = lastLoggedAt.get(reason);
+        long previous = lastLogged.get();
+
+        if (now - previous >= logIntervalMillis && lastLogged.compareAndSet(previous, now)) {
+            long suppressed = suppressedCounts.get(reason).getAndSet(0);
+            log.warn("JWT rejected. reason: {}, detail: {}, suppressed since last log: {}", reason, detail, suppressed);
+        } else {
+            suppressedCounts.get(reason).incrementAndGet();
+        }
+    }
+}
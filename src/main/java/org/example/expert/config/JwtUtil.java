@@ -1,17 +1,20 @@
 package org.example.expert.config;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
-import org.example.expert.domain.common.exception.ServerException;
 import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 
+import java.io.IOException;
 import java.security.Key;
 import java.util.Base64;
 import java.util.Date;
@@ -20,18 +23,24 @@ import java.util.Date;
 @Component
 public class JwtUtil {
 
-    private static final String BEARER_PREFIX = "Bearer ";
+    public static final String BEARER_PREFIX = "Bearer ";
     private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
+    private static final int MAX_TOKEN_LENGTH = 4096;
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
 
     @Value("${jwt.secret.key}")
     private String secretKey;
     private Key key;
+    private JwtParser jwtParser; // thread-safe, 요청마다 새로 만들지 않고 재사용
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
     @PostConstruct
     public void init() {
         byte[] bytes = Base64.getDecoder().decode(secretKey);
         key = Keys.hmacShaKeyFor(bytes);
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     public String createToken(Long userId, String nickname, String email, UserRole userRole) {
@@ -49,18 +58,59 @@ public class JwtUtil {
                         .compact();
     }
 
-    public String substringToken(String tokenValue) {
-        if (StringUtils.hasText(tokenValue) && tokenValue.startsWith(BEARER_PREFIX)) {
-            return tokenValue.substring(7);
-        }
-        throw new ServerException("Not Found Token");
-    }
-
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
+
+    /**
+     * 서명 검증 전 사전 검사
+     * - header.payload.signature 형식인지, payload의 exp가 이미 지났는지만 확인
+     * - 형식이 틀리거나 만료된 토큰은 HMAC 검증/전체 파싱 없이 바로 거절할 수 있도록 사유를 반환
+     * - 문제가 없으면 null (서명 검증은 extractClaims에서 수행)
+     */
+    public JwtRejectReason precheck(String token) {
+        if (token.length() > MAX_TOKEN_LENGTH) {
+            return JwtRejectReason.MALFORMED;
+        }
+
+        int firstDot = token.indexOf('.');
+        int secondDot = token.indexOf('.', firstDot + 1);
+        if (firstDot <= 0
+                || secondDot <= firstDot + 1
+                || secondDot == token.length() - 1
+                || token.indexOf('.', secondDot + 1) != -1) {
+            return JwtRejectReason.MALFORMED;
+        }
+
+        try {
+            byte[] payload = Base64.getUrlDecoder().decode(token.substring(firstDot + 1, secondDot));
+            Long expiration = readExpiration(payload);
+            if (expiration != null && expiration * 1000 < System.currentTimeMillis()) {
+                return JwtRejectReason.EXPIRED;
+            }
+        } catch (IllegalArgumentException | IOException e) {
+            return JwtRejectReason.MALFORMED;
+        }
+        return null;
+    }
+
+    // payload 전체를 객체로 만들지 않고 exp 필드만 찾아 읽음
+    private static Long readExpiration(byte[] payload) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(payload)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("JWT payload is not a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("exp".equals(fieldName) && value != null && value.isNumeric()) {
+                    return parser.getLongValue();
+                }
+                parser.skipChildren();
+            }
+        }
+        return null;
+    }
 }
@@ -1,9 +1,52 @@
 package org.example.expert.config;
 
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 @Configuration
 @EnableJpaAuditing
 public class PersistenceConfig {
+
+    /**
+     * Hibernate 2차 캐시 설정 (application.properties에 값이 있으면 그 값을 우선)
+     * - 로컬 Caffeine(JCache) 캐시 사용, 리전 크기는 application.conf의 caffeine.jcache 설정을 따름
+     * - 캐시 hit/miss 메트릭(hibernate-micrometer)이 필요하면 spring.jpa.properties.hibernate.generate_statistics=true로 통계를 켬
+     *   (모든 세션/쿼리에 집계 비용이 들므로 기본값은 꺼짐)
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer() {
+        return properties -> {
+            properties.putIfAbsent("hibernate.cache.use_second_level_cache", "true");
+            properties.putIfAbsent("hibernate.cache.region.factory_class", "jcache");
+            properties.putIfAbsent("hibernate.javax.cache.provider",
+                    "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider");
+            properties.putIfAbsent("hibernate.javax.cache.missing_cache_strategy", "create");
+        };
+    }
+
+    /**
+     * 지연 로딩 배치 설정
+     * - 프록시/컬렉션을 하나씩 초기화하지 않고 id IN (...)으로 묶어서 조회 (N+1 완화)
+     */
+    @Bean
+    public HibernatePropertiesCustomizer batchFetchCustomizer() {
+        return properties -> properties.putIfAbsent("hibernate.default_batch_fetch_size", "100");
+    }
+
+    /**
+     * JDBC 배치 설정
+     * - 엔티티 id는 pooled 시퀀스(allocationSize 50)로 미리 할당받으므로 INSERT를 배치로 묶을 수 있음
+     *   (시퀀스가 없는 MySQL에서는 Hibernate가 시퀀스 테이블로 대체)
+     * - 같은 엔티티의 INSERT/UPDATE가 연속되도록 정렬해 배치가 끊기지 않게 함
+     */
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", "50");
+            properties.putIfAbsent("hibernate.order_inserts", "true");
+            properties.putIfAbsent("hibernate.order_updates", "true");
+        };
+    }
 }
@@ -0,0 +1,64 @@
+package org.example.expert.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 속성에 따라 primary/replica로 커넥션을 나눔
+ * - readOnly 트랜잭션: replica (replica 지연이 크거나, 현재 사용자가 최근에 쓰기를 했다면 primary)
+ * - 그 외: primary, 커밋되면 현재 사용자를 최근 쓰기 사용자로 기록
+ * - 커넥션을 얻는 시점에 readOnly 여부가 정해져 있어야 하므로 LazyConnectionDataSourceProxy로 감싸서 사용
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private static final Object WRITE_TRACKING_KEY = new Object();
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReadWriteRoutingDataSource(ReplicaLagMonitor replicaLagMonitor, ReadYourWritesTracker readYourWritesTracker) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = ReadYourWritesTracker.currentUserId();
+
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (replicaLagMonitor.isReplicaAvailable() && !readYourWritesTracker.isSticky(userId)) {
+                return REPLICA;
+            }
+            return PRIMARY;
+        }
+
+        trackWriteAfterCommit(userId);
+        return PRIMARY;
+    }
+
+    // 트랜잭션당 한 번만 등록
+    private void trackWriteAfterCommit(Long userId) {
+        if (userId == null
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(WRITE_TRACKING_KEY)) {
+            return;
+        }
+
+        TransactionSynchronizationManager.bindResource(WRITE_TRACKING_KEY, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.markWrite(userId);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_TRACKING_KEY);
+            }
+        });
+    }
+}
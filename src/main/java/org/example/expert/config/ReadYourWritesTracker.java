@@ -0,0 +1,48 @@
+package org.example.expert.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 최근 쓰기 기록
+ * - 쓰기 트랜잭션을 커밋한 사용자는 sticky-window 동안 읽기도 primary에서 수행해
+ *   replica 지연 때문에 방금 쓴 데이터가 보이지 않는 문제를 막음
+ * - 기록은 인스턴스 메모리에만 있으므로 보장 범위는 쓰기를 처리한 인스턴스 안으로 한정됨
+ *   (여러 인스턴스를 운영하면 로드밸런서에서 사용자별 고정 라우팅을 쓰거나, 기록을 공유 저장소로 옮겨야
+ *   다른 인스턴스에서의 읽기도 primary로 보낼 수 있음)
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration stickyWindow) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stickyWindow)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    public void markWrite(Long userId) {
+        if (userId != null) {
+            recentWriters.put(userId, Boolean.TRUE);
+        }
+    }
+
+    public boolean isSticky(Long userId) {
+        return userId != null && recentWriters.getIfPresent(userId) != null;
+    }
+
+    // 인증되지 않은 요청(회원가입, 스케줄러 등)은 null
+    public static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthUser authUser) {
+            return authUser.getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * replica 지연 감시
+ * - primary의 replication_heartbeat에 현재 시각을 기록하고, replica에서 읽은 값과의 차이를 지연으로 봄
+ * - 지연이 max-lag을 넘거나 replica 조회에 실패하면 읽기 전용 트랜잭션도 primary로 보냄
+ * - lag-check가 꺼져 있으면 replica를 항상 사용 가능한 것으로 간주
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate primaryJdbcTemplate;
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagMillis;
+    private final boolean enabled;
+
+    private volatile boolean replicaAvailable;
+    private volatile long lagMillis = -1;
+
+    public ReplicaLagMonitor(
+            DataSource primaryDataSource,
+            DataSource replicaDataSource,
+            long maxLagMillis,
+            boolean enabled,
+            MeterRegistry meterRegistry) {
+        this.primaryJdbcTemplate = new JdbcTemplate(primaryDataSource);
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.maxLagMillis = maxLagMillis;
+        this.enabled = enabled;
+        // 첫 확인 전까지는 replica를 사용하지 않음
+        this.replicaAvailable = !enabled;
+
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagMillis)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            long now = System.currentTimeMillis();
+            primaryJdbcTemplate.update("UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1", now);
+            Long replicaBeat = replicaJdbcTemplate.queryForObject(
+                    "SELECT beat_at FROM replication_heartbeat WHERE id = 1", Long.class);
+
+            lagMillis = replicaBeat != null ? Math.max(0, now - replicaBeat) : Long.MAX_VALUE;
+            updateAvailability(lagMillis <= maxLagMillis);
+        } catch (RuntimeException e) {
+            lagMillis = -1;
+            updateAvailability(false);
+            log.warn("replica 지연 확인에 실패했습니다. reason: {}", e.getMessage());
+        }
+    }
+
+    private void updateAvailability(boolean available) {
+        if (replicaAvailable != available) {
+            log.info("replica 읽기 {} (lag: {}ms)", available ? "재개" : "중단", lagMillis);
+        }
+        replicaAvailable = available;
+    }
+}
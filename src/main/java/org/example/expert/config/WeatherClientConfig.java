@@ -0,0 +1,130 @@
+package org.example.expert.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+/**
+ * 날씨 API 호출 설정
+ * - 커넥션 풀(keep-alive 재사용) + 연결/응답 타임아웃을 가진 RestTemplate
+ * - 외부 장애가 요청 스레드로 번지지 않도록 서킷 브레이커와 벌크헤드로 격리
+ * - 서킷 브레이커/벌크헤드 상태는 resilience4j.* 메트릭으로 노출
+ */
+@Configuration
+public class WeatherClientConfig {
+
+    public static final String WEATHER = "weather";
+
+    @Bean
+    public RestTemplate weatherRestTemplate(
+            RestTemplateBuilder builder,
+            @Value("${weather.http.max-connections:20}") int maxConnections,
+            @Value("${weather.http.connect-timeout-ms:1000}") long connectTimeoutMs,
+            @Value("${weather.http.read-timeout-ms:3000}") long readTimeoutMs,
+            @Value("${weather.http.connection-request-timeout-ms:500}") long connectionRequestTimeoutMs) {
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        // 풀에서 커넥션을 기다리는 시간도 제한
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+
+        return builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+    }
+
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry() {
+        return CircuitBreakerRegistry.ofDefaults();
+    }
+
+    @Bean
+    public BulkheadRegistry bulkheadRegistry() {
+        return BulkheadRegistry.ofDefaults();
+    }
+
+    @Bean
+    public CircuitBreaker weatherCircuitBreaker(
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            @Value("${weather.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${weather.circuit-breaker.sliding-window-size:10}") int slidingWindowSize,
+            @Value("${weather.circuit-breaker.minimum-number-of-calls:5}") int minimumNumberOfCalls,
+            @Value("${weather.circuit-breaker.wait-duration-in-open-state-ms:30000}") long waitDurationInOpenStateMs) {
+        return circuitBreakerRegistry.circuitBreaker(WEATHER, weatherCircuitBreakerConfig(
+                failureRateThreshold, slidingWindowSize, minimumNumberOfCalls, Duration.ofMillis(waitDurationInOpenStateMs)));
+    }
+
+    @Bean
+    public Bulkhead weatherBulkhead(
+            BulkheadRegistry bulkheadRegistry,
+            @Value("${weather.bulkhead.max-concurrent-calls:10}") int maxConcurrentCalls) {
+        return bulkheadRegistry.bulkhead(WEATHER, BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO) // 자리가 없으면 기다리지 않고 바로 fallback
+                .build());
+    }
+
+    @Bean
+    public TaggedCircuitBreakerMetrics circuitBreakerMetrics(CircuitBreakerRegistry circuitBreakerRegistry) {
+        return TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry);
+    }
+
+    @Bean
+    public TaggedBulkheadMetrics bulkheadMetrics(BulkheadRegistry bulkheadRegistry) {
+        return TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry);
+    }
+
+    public static CircuitBreakerConfig weatherCircuitBreakerConfig(
+            float failureRateThreshold,
+            int slidingWindowSize,
+            int minimumNumberOfCalls,
+            Duration waitDurationInOpenState) {
+        return CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .waitDurationInOpenState(waitDurationInOpenState)
+                .permittedNumberOfCallsInHalfOpenState(2)
+                // 벌크헤드 포화는 외부 API 장애가 아니므로 실패로 집계하지 않음
+                .ignoreExceptions(BulkheadFullException.class)
+                .build();
+    }
+}
@@ -1,19 +1,25 @@
 package org.example.expert.domain.auth.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.EntityCacheEvictor;
 import org.example.expert.config.JwtUtil;
+import org.example.expert.config.PasswordHasher;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.service.TodoSearchIndex;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -21,17 +27,21 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtUtil jwtUtil;
+    private final TodoSearchIndex todoSearchIndex;
+    private final EntityCacheEvictor entityCacheEvictor;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    /**
+     * 회원가입
+     * - 이메일 중복은 사전 조회 없이 users.email 유니크 제약으로 판단
+     * - 제약 위반을 이 메서드에서 잡아야 하므로 바깥 트랜잭션 없이 저장(saveAndFlush)만 트랜잭션으로 실행
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SignupResponse signup(SignupRequest signupRequest) {
 
-        if (userRepository.existsByEmail(signupRequest.getEmail())) {
-            throw new InvalidRequestException("이미 존재하는 이메일입니다.");
-        }
-
-        String encodedPassword = passwordEncoder.encode(signupRequest.getPassword());
+        String encodedPassword = passwordHasher.encode(signupRequest.getPassword());
 
         UserRole userRole = UserRole.of(signupRequest.getUserRole());
 
@@ -41,24 +51,65 @@ public class AuthService {
                 encodedPassword,
                 userRole
         );
-        User savedUser = userRepository.save(newUser);
+        User savedUser = saveNewUser(newUser);
+        todoSearchIndex.indexUser(savedUser.getId(), savedUser.getNickname());
 
         String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getNickname(), savedUser.getEmail(), userRole);
 
         return new SignupResponse(bearerToken);
     }
 
+    private User saveNewUser(User newUser) {
+        try {
+            return userRepository.saveAndFlush(newUser);
+        } catch (DataIntegrityViolationException e) {
+            if (isEmailUniqueViolation(e)) {
+                throw new InvalidRequestException("이미 존재하는 이메일입니다.");
+            }
+            throw e;
+        }
+    }
+
+    // DB마다 제약 이름 표기가 달라(스키마 접두사, 대소문자 등) 포함 여부로 판단
+    private static boolean isEmailUniqueViolation(DataIntegrityViolationException e) {
+        String constraintName = e.getCause() instanceof ConstraintViolationException violation
+                ? violation.getConstraintName()
+                : null;
+        String source = constraintName != null ? constraintName : e.getMostSpecificCause().getMessage();
+        return source != null && source.toLowerCase().contains(User.EMAIL_UNIQUE_CONSTRAINT);
+    }
+
+    /**
+     * 로그인
+     * - BCrypt 검증/재해시는 수백 ms가 걸릴 수 있으므로 트랜잭션(= DB 커넥션) 밖에서 수행
+     * - 사용자 조회와 재해시 결과 저장만 각각 짧은 트랜잭션으로 실행
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SigninResponse signin(SigninRequest signinRequest) {
-        User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
+        User user = userRepository.findByEmailNaturalId(signinRequest.getEmail()).orElseThrow(
                 () -> new InvalidRequestException("가입되지 않은 유저입니다."));
 
         // 로그인 시 이메일과 비밀번호가 일치하지 않을 경우 401을 반환합니다.
-        if (!passwordEncoder.matches(signinRequest.getPassword(), user.getPassword())) {
+        if (!passwordHasher.matches(signinRequest.getPassword(), user.getPassword())) {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
+        // 이전 cost/알고리즘으로 저장된 비밀번호는 로그인에 성공했을 때 현재 설정으로 다시 저장
+        if (passwordHasher.upgradeEncoding(user.getPassword())) {
+            upgradePassword(user.getId(), user.getPassword(), passwordHasher.encode(signinRequest.getPassword()));
+        }
+
         String bearerToken = jwtUtil.createToken(user.getId(), user.getNickname(), user.getEmail(), user.getUserRole());
 
         return new SigninResponse(bearerToken);
     }
+
+    // 검증에 사용한 해시가 그대로일 때만 교체 (그 사이 비밀번호가 변경됐다면 덮어쓰지 않음)
+    private void upgradePassword(long userId, String verifiedPassword, String upgradedPassword) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (userRepository.updatePasswordIfUnchanged(userId, verifiedPassword, upgradedPassword) > 0) {
+                entityCacheEvictor.evictAfterCommit(User.class, userId);
+            }
+        });
+    }
 }
@@ -2,14 +2,18 @@ package org.example.expert.domain.comment.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.request.CommentBatchSaveRequest;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -27,8 +31,31 @@ public class CommentController {
         return ResponseEntity.ok(commentService.saveComment(authUser, todoId, commentSaveRequest));
     }
 
+    @PostMapping("/todos/{todoId}/comments:batch")
+    public ResponseEntity<List<CommentSaveResponse>> saveComments(
+            @AuthenticationPrincipal AuthUser authUser,
+            @PathVariable long todoId,
+            @Valid @RequestBody CommentBatchSaveRequest commentBatchSaveRequest) {
+        return ResponseEntity.ok(commentService.saveComments(authUser, todoId, commentBatchSaveRequest));
+    }
+
     @GetMapping("/todos/{todoId}/comments")
     public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
         return ResponseEntity.ok(commentService.getComments(todoId));
     }
+
+    @GetMapping("/todos/{todoId}/comments/cursor")
+    public ResponseEntity<CursorResponse<CommentResponse>> getCommentsByCursor(
+            @PathVariable long todoId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(commentService.getCommentsByCursor(todoId, cursor, size));
+    }
+
+    // 댓글 전체를 JSON 배열로 스트리밍 (응답을 모두 만든 뒤 보내지 않고 쓰는 대로 전송)
+    @GetMapping(value = "/todos/{todoId}/comments/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamComments(@PathVariable long todoId) {
+        StreamingResponseBody body = outputStream -> commentService.streamComments(todoId, outputStream);
+        return ResponseEntity.ok(body);
+    }
 }
@@ -10,10 +10,19 @@ import org.example.expert.domain.user.entity.User;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        // todo_id 조건 + user 조인용
+        @Index(name = "idx_comments_todo_id_user_id", columnList = "todo_id, user_id"),
+        // 댓글 커서 조회/스트리밍(todo_id 조건 + createdAt, id 오름차순)용
+        @Index(name = "idx_comments_todo_id_created_at_id", columnList = "todo_id, created_at, id")
+})
 public class Comment extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    public static final String TODO_FOREIGN_KEY = "fk_comments_todo_id";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_id_generator")
+    @SequenceGenerator(name = "comment_id_generator", sequenceName = "comments_seq", allocationSize = 50)
     private Long id;
     private String contents;
 
@@ -22,7 +31,7 @@ public class Comment extends Timestamped {
     private User user;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "todo_id", nullable = false)
+    @JoinColumn(name = "todo_id", nullable = false, foreignKey = @ForeignKey(name = Comment.TODO_FOREIGN_KEY))
     private Todo todo;
 
     public Comment(String contents, User user, Todo todo) {
@@ -1,14 +1,36 @@
 package org.example.expert.domain.comment.repository;
 
 import org.example.expert.domain.comment.entity.Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
     List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    // 커서 조회: (createdAt, id) 오름차순으로 커서 다음 위치부터 조회
+    // 스트리밍 시에는 트랜잭션 밖에서 페이지마다 호출되므로 각 호출을 읽기 전용 트랜잭션으로 실행
+    @Transactional(readOnly = true)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findFirstPageByTodoIdWithUser(@Param("todoId") Long todoId, Limit limit);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findPageAfterByTodoIdWithUser(@Param("todoId") Long todoId,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id,
+                                                Limit limit);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id IN :todoIds ORDER BY c.id")
+    List<Comment> findByTodoIdInWithUser(@Param("todoIds") Collection<Long> todoIds);
 }
@@ -1,20 +1,33 @@
 package org.example.expert.domain.comment.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.dto.request.CommentBatchSaveRequest;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.CursorResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StreamUtils;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -25,20 +38,28 @@ public class CommentService {
 
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final ObjectMapper objectMapper;
 
+    @Value("${comment.stream.page-size:500}")
+    private int streamPageSize;
+
+    /**
+     * 댓글 등록
+     * - 일정 존재 확인은 댓글 수 증가 UPDATE의 반영 건수로 대신함 (Todo 조회 없음)
+     * - Comment에는 Todo 참조(프록시)만 연결하고, 그 사이 일정이 삭제됐다면 FK 제약 위반을 404로 변환
+     */
     @Transactional
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
         User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId).orElseThrow(() ->
-                new InvalidRequestException("Todo not found"));
+        increaseCommentCount(todoId, 1);
 
         Comment newComment = new Comment(
                 commentSaveRequest.getContents(),
                 user,
-                todo
+                todoRepository.getReferenceById(todoId)
         );
 
-        Comment savedComment = commentRepository.save(newComment);
+        Comment savedComment = saveAll(List.of(newComment)).get(0);
 
         return new CommentSaveResponse(
                 savedComment.getId(),
@@ -47,6 +68,30 @@ public class CommentService {
         );
     }
 
+    /**
+     * 댓글 일괄 등록
+     * - 한 트랜잭션에서 모두 저장하고, 댓글 수는 UPDATE 한 번으로 증가
+     */
+    @Transactional
+    public List<CommentSaveResponse> saveComments(AuthUser authUser, long todoId, CommentBatchSaveRequest commentBatchSaveRequest) {
+        User user = User.fromAuthUser(authUser);
+        List<CommentSaveRequest> requests = commentBatchSaveRequest.getComments();
+        increaseCommentCount(todoId, requests.size());
+
+        Todo todo = todoRepository.getReferenceById(todoId);
+        List<Comment> newComments = new ArrayList<>(requests.size());
+        for (CommentSaveRequest request : requests) {
+            newComments.add(new Comment(request.getContents(), user, todo));
+        }
+
+        UserResponse userResponse = new UserResponse(user.getId(), user.getEmail());
+        List<CommentSaveResponse> dtoList = new ArrayList<>(newComments.size());
+        for (Comment savedComment : saveAll(newComments)) {
+            dtoList.add(new CommentSaveResponse(savedComment.getId(), savedComment.getContents(), userResponse));
+        }
+        return dtoList;
+    }
+
     public List<CommentResponse> getComments(long todoId) {
         List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
 
@@ -62,4 +107,99 @@ public class CommentService {
         }
         return dtoList;
     }
+
+    /**
+     * 댓글 커서 조회
+     * - 작성일 오름차순, 같은 작성일이면 id 오름차순
+     * - 다음 페이지 존재 여부 확인을 위해 size + 1 건을 조회
+     */
+    public CursorResponse<CommentResponse> getCommentsByCursor(long todoId, String cursor, int size) {
+        Cursor.validateSize(size);
+
+        Cursor decoded = Cursor.decode(cursor);
+        Limit limit = Limit.of(size + 1);
+        List<Comment> rows = decoded == null
+                ? commentRepository.findFirstPageByTodoIdWithUser(todoId, limit)
+                : commentRepository.findPageAfterByTodoIdWithUser(todoId, decoded.getTimestamp(), decoded.getId(), limit);
+
+        return CursorResponse.of(
+                rows,
+                size,
+                CommentService::toCommentResponse,
+                row -> new Cursor(row.getCreatedAt(), row.getId()));
+    }
+
+    /**
+     * 댓글 전체를 JSON 배열로 스트리밍
+     * - 커서 조회와 같은 (createdAt, id) 기준으로 comment.stream.page-size 건씩 끊어 읽고, 페이지마다 출력 후 flush
+     * - DB 커서(fetch size)에 의존하지 않으므로 드라이버가 결과 전체를 메모리에 올리지 않음
+     *   (MySQL Connector/J는 useCursorFetch 없이는 fetch size를 무시하고 전체를 버퍼링함)
+     * - 페이지마다 짧은 읽기 트랜잭션으로 조회해 응답을 쓰는 동안 커넥션을 점유하지 않음
+     * - 중간에 실패하면 배열을 닫지 않고 예외를 전파해, 잘린 응답이 정상 응답처럼 보이지 않도록 함
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void streamComments(long todoId, OutputStream outputStream) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(StreamUtils.nonClosing(outputStream));
+        // 기본값(true)이면 close() 시 열린 배열에 ']'를 붙여 실패한 응답도 완전한 JSON이 됨
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+
+        try (generator) {
+            generator.writeStartArray();
+
+            Limit limit = Limit.of(streamPageSize);
+            List<Comment> page = commentRepository.findFirstPageByTodoIdWithUser(todoId, limit);
+            while (!page.isEmpty()) {
+                for (Comment comment : page) {
+                    generator.writeObject(toCommentResponse(comment));
+                }
+                generator.flush();
+
+                if (page.size() < streamPageSize) {
+                    break;
+                }
+                Comment last = page.get(page.size() - 1);
+                page = commentRepository.findPageAfterByTodoIdWithUser(todoId, last.getCreatedAt(), last.getId(), limit);
+            }
+
+            generator.writeEndArray();
+        }
+    }
+
+    private static CommentResponse toCommentResponse(Comment comment) {
+        User user = comment.getUser();
+        return new CommentResponse(
+                comment.getId(),
+                comment.getContents(),
+                new UserResponse(user.getId(), user.getEmail())
+        );
+    }
+
+    private void increaseCommentCount(long todoId, int count) {
+        if (todoRepository.increaseCommentCount(todoId, count) == 0) {
+            throw new InvalidRequestException("Todo not found");
+        }
+    }
+
+    private List<Comment> saveAll(List<Comment> comments) {
+        try {
+            List<Comment> savedComments = commentRepository.saveAll(comments);
+            commentRepository.flush();
+            return savedComments;
+        } catch (DataIntegrityViolationException e) {
+            // 일정이 삭제된 경우(todo FK 위반)만 404로 변환하고, 그 외 제약 위반은 그대로 전파
+            if (isTodoForeignKeyViolation(e)) {
+                throw new InvalidRequestException("Todo not found");
+            }
+            throw e;
+        }
+    }
+
+    // DB마다 제약 이름 표기가 달라(스키마 접두사, 대소문자 등) 포함 여부로 판단
+    private static boolean isTodoForeignKeyViolation(DataIntegrityViolationException e) {
+        String constraintName = e.getCause() instanceof ConstraintViolationException violation
+                ? violation.getConstraintName()
+                : null;
+        String source = constraintName != null ? constraintName : e.getMostSpecificCause().getMessage();
+        return source != null && source.toLowerCase().contains(Comment.TODO_FOREIGN_KEY);
+    }
 }
@@ -0,0 +1,57 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 커서 기반(keyset) 페이지네이션의 위치 정보
+ * - 정렬 기준 시각과 id를 묶어 클라이언트에는 불투명한 문자열 토큰으로 전달한다.
+ */
+@Getter
+public class Cursor {
+
+    // 한 번에 조회할 수 있는 최대 개수 (size + 1 건을 조회하므로 int 범위를 넘지 않도록 상한을 둠)
+    public static final int MAX_SIZE = 100;
+
+    private static final String DELIMITER = ",";
+
+    private final LocalDateTime timestamp;
+    private final Long id;
+
+    public Cursor(LocalDateTime timestamp, Long id) {
+        this.timestamp = timestamp;
+        this.id = id;
+    }
+
+    public String encode() {
+        String raw = timestamp + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 토큰이 없으면 첫 페이지 요청으로 보고 null을 반환
+    public static Cursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            return new Cursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    Long.parseLong(raw.substring(delimiterIndex + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    public static void validateSize(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new InvalidRequestException("조회 개수는 1 이상 " + MAX_SIZE + " 이하여야 합니다.");
+        }
+    }
+}
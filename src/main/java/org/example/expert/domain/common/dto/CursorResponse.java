@@ -0,0 +1,38 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+public class CursorResponse<T> {
+
+    private final List<T> content;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    public CursorResponse(List<T> content, String nextCursor, boolean hasNext) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    /**
+     * size + 1 건을 조회한 결과로 응답을 만든다.
+     * - 한 건이 더 조회되었다면 다음 페이지가 있는 것으로 보고, 마지막 항목 위치를 다음 커서로 사용
+     */
+    public static <R, T> CursorResponse<T> of(List<R> rows, int size, Function<R, T> mapper, Function<R, Cursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<R> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        List<T> content = new ArrayList<>(pageRows.size());
+        for (R row : pageRows) {
+            content.add(mapper.apply(row));
+        }
+
+        String nextCursor = hasNext ? cursorOf.apply(pageRows.get(pageRows.size() - 1)).encode() : null;
+        return new CursorResponse<>(content, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class SliceResponse<T> {
+
+    private final List<T> content;
+    private final int page;
+    private final int size;
+    private final boolean hasNext;
+    private final Long totalElements; // 요청한 경우에만 채워지는 캐시된 근사치
+
+    public SliceResponse(List<T> content, int page, int size, boolean hasNext, Long totalElements) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.totalElements = totalElements;
+    }
+}
@@ -0,0 +1,114 @@
+package org.example.expert.domain.common.search;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 기반 n-gram 역색인
+ * - 문서(id, 문자열)를 글자 단위 unigram + bigram 토큰으로 나누어 토큰별 id 목록을 유지
+ * - 형태소 분석 없이 글자 단위로 자르므로 띄어쓰기가 없는 한글 제목/닉네임도 부분 일치 검색 가능
+ * - bigram 교집합은 후보일 뿐이므로 최종적으로 원문 포함 여부를 다시 확인해 LIKE '%kw%'와 같은 결과를 반환
+ */
+public class NgramIndex {
+
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, String> documents = new ConcurrentHashMap<>();
+
+    public void put(long id, String text) {
+        if (text == null) {
+            remove(id);
+            return;
+        }
+
+        String normalized = normalize(text);
+        String previous = documents.put(id, normalized);
+        if (previous != null) {
+            removePostings(id, previous);
+        }
+
+        for (String token : tokenize(normalized)) {
+            postings.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    public void remove(long id) {
+        String previous = documents.remove(id);
+        if (previous != null) {
+            removePostings(id, previous);
+        }
+    }
+
+    // keyword를 부분 문자열로 포함하는 문서 id 목록
+    public Set<Long> search(String keyword) {
+        String query = normalize(keyword);
+
+        // 검색어의 토큰 중 문서 수가 가장 적은 토큰의 목록만 후보로 사용
+        Set<Long> smallest = null;
+        for (String token : queryTokens(query)) {
+            Set<Long> ids = postings.get(token);
+            if (ids == null) {
+                return Set.of();
+            }
+            if (smallest == null || ids.size() < smallest.size()) {
+                smallest = ids;
+            }
+        }
+        if (smallest == null) {
+            return Set.of();
+        }
+
+        Set<Long> result = new HashSet<>();
+        for (Long id : smallest) {
+            String document = documents.get(id);
+            if (document != null && document.contains(query)) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    private void removePostings(long id, String text) {
+        for (String token : tokenize(text)) {
+            postings.computeIfPresent(token, (key, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    private static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            tokens.add(text.substring(i, i + 1));
+            if (i + 1 < text.length()) {
+                tokens.add(text.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    // 한 글자 검색어는 unigram, 그 외에는 bigram으로 후보를 찾음
+    private static Set<String> queryTokens(String query) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (query.length() == 1) {
+            tokens.add(query);
+            return tokens;
+        }
+        for (int i = 0; i + 1 < query.length(); i++) {
+            tokens.add(query.substring(i, i + 2));
+        }
+        return tokens;
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+}
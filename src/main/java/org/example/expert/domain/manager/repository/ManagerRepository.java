@@ -2,12 +2,25 @@ package org.example.expert.domain.manager.repository;
 
 import org.example.expert.domain.manager.entity.Manager;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
     @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
     List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id IN :todoIds ORDER BY m.id")
+    List<Manager> findByTodoIdInWithUser(@Param("todoIds") Collection<Long> todoIds);
+
+    // 담당자가 해당 일정에 속하고, 일정 작성자가 요청한 유저일 때만 삭제 (삭제된 건수 반환)
+    @Modifying
+    @Query("DELETE FROM Manager m WHERE m.id = :managerId AND m.todo.id = :todoId " +
+            "AND EXISTS (SELECT t.id FROM Todo t WHERE t.id = :todoId AND t.user.id = :userId)")
+    int deleteByIdAndTodoIdAndTodoOwner(@Param("managerId") long managerId,
+                                        @Param("todoId") long todoId,
+                                        @Param("userId") long userId);
 }
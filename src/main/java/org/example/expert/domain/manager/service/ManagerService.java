@@ -8,7 +8,6 @@ import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.manager.repository.ManagerRepository;
-import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
@@ -29,26 +28,31 @@ public class ManagerService {
     private final UserRepository userRepository;
     private final TodoRepository todoRepository;
 
+    /**
+     * 담당자 등록
+     * - 일정 작성자 확인은 Todo 엔티티 대신 작성자 id만 조회
+     * - Manager 저장에는 Todo 참조(프록시)만 사용
+     */
     @Transactional
     public ManagerSaveResponse saveManager(AuthUser authUser, long todoId, ManagerSaveRequest managerSaveRequest) {
         // 일정을 만든 유저
-        User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId)
+        Long ownerId = todoRepository.findOwnerIdById(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
-        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
+        if (!ObjectUtils.nullSafeEquals(authUser.getId(), ownerId)) {
             throw new InvalidRequestException("담당자를 등록하려고 하는 유저가 유효하지 않거나, 일정을 만든 유저가 아닙니다.");
         }
 
-        User managerUser = userRepository.findById(managerSaveRequest.getManagerUserId())
-                .orElseThrow(() -> new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다."));
-
-        if (ObjectUtils.nullSafeEquals(user.getId(), managerUser.getId())) {
+        if (ObjectUtils.nullSafeEquals(authUser.getId(), managerSaveRequest.getManagerUserId())) {
             throw new InvalidRequestException("일정 작성자는 본인을 담당자로 등록할 수 없습니다.");
         }
 
-        Manager newManagerUser = new Manager(managerUser, todo);
+        User managerUser = userRepository.findById(managerSaveRequest.getManagerUserId())
+                .orElseThrow(() -> new InvalidRequestException("등록하려고 하는 담당자 유저가 존재하지 않습니다."));
+
+        Manager newManagerUser = new Manager(managerUser, todoRepository.getReferenceById(todoId));
         Manager savedManagerUser = managerRepository.save(newManagerUser);
+        todoRepository.incrementManagerCount(todoId);
 
         return new ManagerSaveResponse(
                 savedManagerUser.getId(),
@@ -56,11 +60,13 @@ public class ManagerService {
         );
     }
 
+    // 일정 존재 여부는 Todo 엔티티를 로딩하지 않고 확인
     public List<ManagerResponse> getManagers(long todoId) {
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        if (!todoRepository.existsById(todoId)) {
+            throw new InvalidRequestException("Todo not found");
+        }
 
-        List<Manager> managerList = managerRepository.findByTodoIdWithUser(todo.getId());
+        List<Manager> managerList = managerRepository.findByTodoIdWithUser(todoId);
 
         List<ManagerResponse> dtoList = new ArrayList<>();
         for (Manager manager : managerList) {
@@ -73,24 +79,32 @@ public class ManagerService {
         return dtoList;
     }
 
+    /**
+     * 담당자 삭제
+     * - 작성자/소속 확인과 삭제를 조건부 DELETE 한 번으로 처리
+     * - 삭제된 건이 없을 때만 원인을 구분하기 위해 추가 조회
+     */
     @Transactional
     public void deleteManager(AuthUser authUser, long todoId, long managerId) {
-        User user = User.fromAuthUser(authUser);
+        int deleted = managerRepository.deleteByIdAndTodoIdAndTodoOwner(managerId, todoId, authUser.getId());
+        if (deleted == 0) {
+            throw resolveDeleteFailure(authUser, todoId, managerId);
+        }
+
+        todoRepository.decrementManagerCount(todoId);
+    }
 
-        Todo todo = todoRepository.findById(todoId)
+    private InvalidRequestException resolveDeleteFailure(AuthUser authUser, long todoId, long managerId) {
+        Long ownerId = todoRepository.findOwnerIdById(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
 
-        if (todo.getUser() == null || !ObjectUtils.nullSafeEquals(user.getId(), todo.getUser().getId())) {
-            throw new InvalidRequestException("해당 일정을 만든 유저가 유효하지 않습니다.");
+        if (!ObjectUtils.nullSafeEquals(authUser.getId(), ownerId)) {
+            return new InvalidRequestException("해당 일정을 만든 유저가 유효하지 않습니다.");
         }
 
-        Manager manager = managerRepository.findById(managerId)
-                .orElseThrow(() -> new InvalidRequestException("Manager not found"));
-
-        if (!ObjectUtils.nullSafeEquals(todo.getId(), manager.getTodo().getId())) {
-            throw new InvalidRequestException("해당 일정에 등록된 담당자가 아닙니다.");
+        if (!managerRepository.existsById(managerId)) {
+            return new InvalidRequestException("Manager not found");
         }
-
-        managerRepository.delete(manager);
+        return new InvalidRequestException("해당 일정에 등록된 담당자가 아닙니다.");
     }
 }
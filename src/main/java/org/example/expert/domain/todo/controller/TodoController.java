@@ -3,16 +3,25 @@ package org.example.expert.domain.todo.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.SliceResponse;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.service.TodoDetailService;
+import org.example.expert.domain.todo.service.TodoExportService;
+import org.example.expert.domain.todo.service.TodoImportService;
 import org.example.expert.domain.todo.service.TodoService;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -21,6 +30,9 @@ import java.util.List;
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoImportService todoImportService;
+    private final TodoExportService todoExportService;
+    private final TodoDetailService todoDetailService;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -29,6 +41,21 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
     }
 
+    // 요청 본문(NDJSON)을 한 줄씩 읽으면서 저장
+    @PostMapping(value = "/todos/import", consumes = "application/x-ndjson")
+    public ResponseEntity<TodoImportResponse> importTodos(
+            @AuthenticationPrincipal AuthUser authUser,
+            InputStream body) {
+        return ResponseEntity.ok(todoImportService.importTodos(authUser, body));
+    }
+
+    // 전체 Todo를 NDJSON으로 스트리밍 (응답을 모두 만든 뒤 보내지 않고 쓰는 대로 전송)
+    @GetMapping(value = "/todos/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportTodos() {
+        StreamingResponseBody body = todoExportService::exportTo;
+        return ResponseEntity.ok(body);
+    }
+
     @GetMapping("/todos")
     public ResponseEntity<Page<TodoResponse>> getTodos(
             @RequestParam(defaultValue = "1") int page,
@@ -39,11 +66,38 @@ public class TodoController {
         return ResponseEntity.ok(todoService.getTodos(page, size, weather, startDate, endDate));
     }
 
+    @GetMapping("/todos/slice")
+    public ResponseEntity<SliceResponse<TodoResponse>> getTodoSlice(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String weather,
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        return ResponseEntity.ok(todoService.getTodoSlice(page, size, weather, startDate, endDate, withTotal));
+    }
+
+    @GetMapping("/todos/cursor")
+    public ResponseEntity<CursorResponse<TodoResponse>> getTodosByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String weather,
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate) {
+        return ResponseEntity.ok(todoService.getTodosByCursor(cursor, size, weather, startDate, endDate));
+    }
+
     @GetMapping("/todos/{todoId}")
     public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
         return ResponseEntity.ok(todoService.getTodo(todoId));
     }
 
+    // Todo, 댓글, 담당자를 동시에 조회해 한 번에 반환
+    @GetMapping("/todos/{todoId}/detail")
+    public ResponseEntity<TodoDetailResponse> getTodoDetail(@PathVariable long todoId) {
+        return ResponseEntity.ok(todoDetailService.getTodoDetail(todoId));
+    }
+
     @GetMapping("/todos/search")
     public ResponseEntity<List<TodoSearchResponse>> searchTodos(
             @RequestParam(defaultValue = "1") int page,
@@ -54,4 +108,15 @@ public class TodoController {
             @RequestParam(required = false) String nickname) {
         return ResponseEntity.ok(todoService.searchTodos(page, size, keyword, from, to, nickname));
     }
+
+    @GetMapping("/todos/search/cursor")
+    public ResponseEntity<CursorResponse<TodoSearchResponse>> searchTodosByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) LocalDate from,
+            @RequestParam(required = false) LocalDate to,
+            @RequestParam(required = false) String nickname) {
+        return ResponseEntity.ok(todoService.searchTodosByCursor(cursor, size, keyword, from, to, nickname));
+    }
 }
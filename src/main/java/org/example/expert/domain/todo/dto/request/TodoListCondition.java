@@ -0,0 +1,47 @@
+package org.example.expert.domain.todo.dto.request;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Todo 목록 조회 조건 (Page/Slice/커서 조회와 전체 개수 캐시 키에 공통으로 사용)
+ * - 빈 weather는 조건 없음(null)으로 취급
+ * - 날짜는 시작일이 종료일보다 늦지 않을 때만 적용하며, 하루 전체 범위의 시간으로 변환
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class TodoListCondition {
+
+    private final String weather;
+    private final LocalDateTime startDate;
+    private final LocalDateTime endDate;
+
+    private TodoListCondition(String weather, LocalDateTime startDate, LocalDateTime endDate) {
+        this.weather = weather;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    public static TodoListCondition of(String weather, LocalDate startDate, LocalDate endDate) {
+        boolean hasDateRange = startDate != null && endDate != null && !startDate.isAfter(endDate);
+        return new TodoListCondition(
+                weather != null && !weather.isBlank() ? weather : null,
+                hasDateRange ? startDate.atTime(LocalTime.MIN) : null,
+                hasDateRange ? endDate.atTime(LocalTime.MAX) : null
+        );
+    }
+
+    public boolean hasWeather() {
+        return weather != null;
+    }
+
+    public boolean hasDateRange() {
+        return startDate != null;
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.expert.domain.todo.dto.request;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Todo 검색 조건
+ * - keywordTodoIds / nicknameUserIds는 검색 인덱스로 미리 찾은 후보 id 목록
+ * - 인덱스로 판단할 수 없는 경우 null이며, 이때는 DB에서 부분 일치(LIKE) 조건으로 검색
+ * - indexedBefore 이후 생성된 행은 인덱스에 없을 수 있으므로 후보 id와 함께 LIKE 조건으로 확인
+ */
+@Getter
+public class TodoSearchCondition {
+
+    private final String keyword;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final String nickname;
+    private final Set<Long> keywordTodoIds;
+    private final Set<Long> nicknameUserIds;
+    private final LocalDateTime indexedBefore;
+
+    public TodoSearchCondition(String keyword, LocalDateTime from, LocalDateTime to, String nickname,
+                               Set<Long> keywordTodoIds, Set<Long> nicknameUserIds, LocalDateTime indexedBefore) {
+        this.keyword = keyword;
+        this.from = from;
+        this.to = to;
+        this.nickname = nickname;
+        this.keywordTodoIds = keywordTodoIds;
+        this.nicknameUserIds = nicknameUserIds;
+        this.indexedBefore = indexedBefore;
+    }
+}
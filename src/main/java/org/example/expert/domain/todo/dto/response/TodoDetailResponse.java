@@ -0,0 +1,22 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+
+import java.util.List;
+
+@Getter
+public class TodoDetailResponse {
+
+    private final TodoResponse todo;
+    private final CursorResponse<CommentResponse> comments;
+    private final List<ManagerResponse> managers;
+
+    public TodoDetailResponse(TodoResponse todo, CursorResponse<CommentResponse> comments, List<ManagerResponse> managers) {
+        this.todo = todo;
+        this.comments = comments;
+        this.managers = managers;
+    }
+}
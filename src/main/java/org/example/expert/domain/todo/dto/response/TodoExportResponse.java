@@ -0,0 +1,35 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+public class TodoExportResponse {
+
+    private final Long id;
+    private final String title;
+    private final String contents;
+    private final String weather;
+    private final UserResponse user;
+    private final List<CommentResponse> comments;
+    private final List<ManagerResponse> managers;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+
+    public TodoExportResponse(Long id, String title, String contents, String weather, UserResponse user, List<CommentResponse> comments, List<ManagerResponse> managers, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.title = title;
+        this.contents = contents;
+        this.weather = weather;
+        this.user = user;
+        this.comments = comments;
+        this.managers = managers;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoImportResponse {
+
+    private final long importedCount;
+    private final long failedCount;
+    private final List<TodoImportError> errors;
+
+    public TodoImportResponse(long importedCount, long failedCount, List<TodoImportError> errors) {
+        this.importedCount = importedCount;
+        this.failedCount = failedCount;
+        this.errors = errors;
+    }
+}
@@ -3,6 +3,8 @@ package org.example.expert.domain.todo.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
@@ -13,23 +15,50 @@ import java.util.List;
 
 @Getter
 @Entity
+@BatchSize(size = 100)
+@NamedEntityGraph(name = Todo.WITH_USER_GRAPH, attributeNodes = @NamedAttributeNode("user"))
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+        // weather 조건 + 수정일 범위/정렬용
+        @Index(name = "idx_todos_weather_modified_at", columnList = "weather, modified_at, id"),
+        // 목록 커서 조회(modifiedAt DESC, id DESC) 정렬/범위 조건용
+        @Index(name = "idx_todos_modified_at_id", columnList = "modified_at DESC, id DESC"),
+        // 검색 커서 조회(createdAt DESC, id DESC) 정렬/범위 조건용
+        @Index(name = "idx_todos_created_at_id", columnList = "created_at DESC, id DESC")
+})
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 목록 조회 시 작성자를 함께 조회하기 위한 엔티티 그래프
+    public static final String WITH_USER_GRAPH = "Todo.withUser";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_id_generator")
+    @SequenceGenerator(name = "todo_id_generator", sequenceName = "todos_seq", allocationSize = 50)
     private Long id;
     private String title;
     private String contents;
     private String weather;
 
+    // 검색 시 댓글/담당자 조인 없이 바로 읽기 위한 집계 컬럼 (증감은 벌크 UPDATE로만 처리)
+    // 벌크 UPDATE는 Todo 2차 캐시 리전 전체를 비우므로 Todo는 2차 캐시 대상에서 제외
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long commentCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long managerCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    // 여러 Todo의 컬렉션을 순회할 때 todo_id IN (...)으로 묶어서 초기화
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "todo", cascade = CascadeType.REMOVE)
     private List<Comment> comments = new ArrayList<>();
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "todo", cascade = CascadeType.PERSIST)
     private List<Manager> managers = new ArrayList<>();
 
@@ -39,5 +68,6 @@ public class Todo extends Timestamped {
         this.weather = weather;
         this.user = user;
         this.managers.add(new Manager(user, this));
+        this.managerCount = this.managers.size();
     }
 }
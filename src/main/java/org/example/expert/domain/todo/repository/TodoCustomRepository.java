@@ -1,5 +1,8 @@
 package org.example.expert.domain.todo.repository;
 
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
 
@@ -12,8 +15,15 @@ public interface TodoCustomRepository {
 
     List<TodoSearchResponse> searchTodos(int page,
                                          int size,
-                                         String keyword,
-                                         LocalDateTime from,
-                                         LocalDateTime to,
-                                         String nickname);
+                                         TodoSearchCondition condition);
+
+    CursorResponse<TodoResponse> findTodosByCursor(Cursor cursor,
+                                                   int size,
+                                                   String weather,
+                                                   LocalDateTime startDate,
+                                                   LocalDateTime endDate);
+
+    CursorResponse<TodoSearchResponse> searchTodosByCursor(Cursor cursor,
+                                                           int size,
+                                                           TodoSearchCondition condition);
 }
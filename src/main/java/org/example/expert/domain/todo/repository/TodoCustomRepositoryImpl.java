@@ -1,11 +1,17 @@
 package org.example.expert.domain.todo.repository;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
-import org.example.expert.domain.comment.entity.QComment;
-import org.example.expert.domain.manager.entity.QManager;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
 import org.example.expert.domain.todo.entity.QTodo;
@@ -15,11 +21,14 @@ import org.example.expert.domain.user.entity.QUser;
 import java.time.LocalDateTime;
 
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 
 /**
  * Todo 조회/검색을 위한 QueryDSL 기반 Custom Repository 구현체
  * - 단건 조회 시 User 정보 포함
- * - 검색 시 제목/담당자/생성일 조건 + 총 댓글 수/담당자 수 집계
+ * - 검색 시 제목/담당자/생성일 조건 + 집계 컬럼의 댓글 수/담당자 수 조회
+ * - 커서 기반 조회 시 (정렬 시각, id) 기준으로 이어서 조회
  */
 @RequiredArgsConstructor
 public class TodoCustomRepositoryImpl implements TodoCustomRepository {
@@ -27,8 +36,6 @@ public class TodoCustomRepositoryImpl implements TodoCustomRepository {
     private final JPAQueryFactory jpaQueryFactory;
     private final QTodo todo = QTodo.todo;
     private final QUser user = QUser.user;
-    private final QComment comment = QComment.comment;
-    private final QManager manager = QManager.manager;
 
     /**
      * Todo 단건 조회
@@ -37,19 +44,7 @@ public class TodoCustomRepositoryImpl implements TodoCustomRepository {
     @Override
     public TodoResponse findByIdWithUser(long todoId) {
         return jpaQueryFactory
-                .select(Projections.constructor(
-                        TodoResponse.class,
-                        todo.id,
-                        todo.title,
-                        todo.contents,
-                        todo.weather,
-                        Projections.constructor(
-                                UserResponse.class,
-                                user.id,
-                                user.email),
-                        todo.createdAt,
-                        todo.modifiedAt)
-                )
+                .select(todoResponseProjection())
                 .from(todo)
                 .join(todo.user, user)
                 .where(todo.id.eq(todoId))
@@ -58,59 +53,210 @@ public class TodoCustomRepositoryImpl implements TodoCustomRepository {
 
     /**
      * Todo 검색
-     * - 제목 키워드(부분 일치)
-     * - 담당자 닉네임(부분 일치)
+     * - 제목 키워드(부분 일치, 검색 인덱스 우선)
+     * - 담당자 닉네임(부분 일치, 검색 인덱스 우선)
      * - 생성일 범위(from ~ to)
-     * - 댓글 수 / 담당자 수 집계
      * - 생성일 최신순 정렬
      * - 페이징 처리(offset, limit)
+     * - 댓글 수 / 담당자 수는 todos의 집계 컬럼 사용
      */
     @Override
     public List<TodoSearchResponse> searchTodos(
             int page,
             int size,
-            String keyword,
-            LocalDateTime from,
-            LocalDateTime to,
-            String nickname) {
+            TodoSearchCondition condition) {
 
-        return jpaQueryFactory
-                .select(Projections.constructor(
-                        TodoSearchResponse.class,
-                        todo.title,
-                        comment.id.countDistinct(), // 댓글 수 (중복 방지)
-                        manager.id.countDistinct()) // 담당자 수 (중복 방지)
-                )
+        return searchTodoQuery(condition)
+                .orderBy(todo.createdAt.desc(), todo.id.desc())
+                .offset((long) (page - 1) * size) // page는 1부터 시작
+                .limit(size)
+                .fetch()
+                .stream()
+                .map(this::toSearchResponse)
+                .toList();
+    }
+
+    /**
+     * Todo 목록 커서 조회
+     * - 수정일 최신순, 같은 수정일이면 id 역순으로 정렬
+     * - offset 없이 커서 위치 이후만 조회하므로 페이지가 깊어져도 비용이 일정함
+     * - 다음 페이지 존재 여부 확인을 위해 size + 1 건을 조회
+     */
+    @Override
+    public CursorResponse<TodoResponse> findTodosByCursor(
+            Cursor cursor,
+            int size,
+            String weather,
+            LocalDateTime startDate,
+            LocalDateTime endDate) {
+
+        List<TodoResponse> rows = jpaQueryFactory
+                .select(todoResponseProjection())
                 .from(todo)
                 .join(todo.user, user)
-                .leftJoin(todo.comments, comment)
-                .leftJoin(todo.managers, manager)
                 .where(
-                        keywordContains(keyword),
-                        nicknameContains(nickname),
-                        createdAtFrom(from),
-                        createdAtTo(to)
+                        weatherEq(weather),
+                        modifiedAtBetween(startDate, endDate),
+                        modifiedAtBefore(cursor)
                 )
-                .groupBy(todo.id, todo.title) // 댓글/담당자 수 집계(count)를 위해 groupBy 필요
-                .orderBy(todo.createdAt.desc())
-                .offset((long) (page - 1) * size) // page는 1부터 시작
-                .limit(size)
+                .orderBy(todo.modifiedAt.desc(), todo.id.desc())
+                .limit(size + 1)
+                .fetch();
+
+        return CursorResponse.of(
+                rows,
+                size,
+                Function.identity(),
+                row -> new Cursor(row.getModifiedAt(), row.getId()));
+    }
+
+    /**
+     * Todo 검색 커서 조회
+     * - 검색 조건은 searchTodos와 동일
+     * - 생성일 최신순, 같은 생성일이면 id 역순으로 정렬
+     */
+    @Override
+    public CursorResponse<TodoSearchResponse> searchTodosByCursor(
+            Cursor cursor,
+            int size,
+            TodoSearchCondition condition) {
+
+        List<Tuple> rows = searchTodoQuery(condition)
+                .where(createdAtBefore(cursor))
+                .orderBy(todo.createdAt.desc(), todo.id.desc())
+                .limit(size + 1)
                 .fetch();
 
+        return CursorResponse.of(
+                rows,
+                size,
+                this::toSearchResponse,
+                row -> new Cursor(row.get(todo.createdAt), row.get(todo.id)));
+    }
+
+    /**
+     * 검색 쿼리
+     * - 댓글 수/담당자 수는 todos의 집계 컬럼에서 바로 읽으므로 댓글/담당자 조인이 필요 없음
+     * - 제목/닉네임 조건은 검색 인덱스 후보 id가 있으면 id IN 조건, 없으면 LIKE 조건 사용
+     * - 후보 id를 쓰더라도 색인 이후 생성된 행(다른 인스턴스 저장분 등)은 LIKE 조건으로 함께 확인
+     * - 닉네임 조건이 있을 때만 작성자(User)와 조인
+     */
+    private JPAQuery<Tuple> searchTodoQuery(TodoSearchCondition condition) {
+        JPAQuery<Tuple> query = jpaQueryFactory
+                .select(todo.id, todo.title, todo.createdAt, todo.commentCount, todo.managerCount)
+                .from(todo);
+
+        if (hasText(condition.getNickname())) {
+            query.join(todo.user, user);
+        }
+
+        return query.where(
+                keywordContains(condition.getKeyword(), condition.getKeywordTodoIds(), condition.getIndexedBefore()),
+                nicknameContains(condition.getNickname(), condition.getNicknameUserIds(), condition.getIndexedBefore()),
+                createdAtFrom(condition.getFrom()),
+                createdAtTo(condition.getTo())
+        );
     }
 
-    private BooleanExpression keywordContains(String keyword) {
-        if (keyword == null || keyword.isBlank()) {
+    private TodoSearchResponse toSearchResponse(Tuple row) {
+        return new TodoSearchResponse(
+                row.get(todo.title),
+                row.get(todo.commentCount),
+                row.get(todo.managerCount)
+        );
+    }
+
+    private ConstructorExpression<TodoResponse> todoResponseProjection() {
+        return Projections.constructor(
+                TodoResponse.class,
+                todo.id,
+                todo.title,
+                todo.contents,
+                todo.weather,
+                Projections.constructor(
+                        UserResponse.class,
+                        user.id,
+                        user.email),
+                todo.createdAt,
+                todo.modifiedAt);
+    }
+
+    private BooleanExpression weatherEq(String weather) {
+        if (weather == null || weather.isBlank()) {
+            return null;
+        }
+        return todo.weather.eq(weather);
+    }
+
+    private BooleanExpression modifiedAtBetween(LocalDateTime startDate, LocalDateTime endDate) {
+        if (startDate == null || endDate == null) {
+            return null;
+        }
+        return todo.modifiedAt.between(startDate, endDate);
+    }
+
+    // (modifiedAt, id) < (cursor.timestamp, cursor.id)
+    // 앞의 modifiedAt <= 조건은 결과를 바꾸지 않지만, OR 조건만으로는 인덱스 범위 스캔을 쓰지 못하는 옵티마이저(H2 등)를 위해 둠
+    private BooleanExpression modifiedAtBefore(Cursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return todo.modifiedAt.loe(cursor.getTimestamp())
+                .and(todo.modifiedAt.lt(cursor.getTimestamp())
+                        .or(todo.modifiedAt.eq(cursor.getTimestamp()).and(todo.id.lt(cursor.getId()))));
+    }
+
+    // (createdAt, id) < (cursor.timestamp, cursor.id)
+    private BooleanExpression createdAtBefore(Cursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return todo.createdAt.loe(cursor.getTimestamp())
+                .and(todo.createdAt.lt(cursor.getTimestamp())
+                        .or(todo.createdAt.eq(cursor.getTimestamp()).and(todo.id.lt(cursor.getId()))));
+    }
+
+    private BooleanExpression keywordContains(String keyword, Set<Long> keywordTodoIds, LocalDateTime indexedBefore) {
+        if (!hasText(keyword)) {
             return null;
         }
-        return todo.title.contains(keyword);
+        if (keywordTodoIds == null) {
+            return todo.title.contains(keyword);
+        }
+        return indexedOrRecent(idIn(todo.id, keywordTodoIds), todo.createdAt, indexedBefore, todo.title.contains(keyword));
     }
 
-    private BooleanExpression nicknameContains(String nickname) {
-        if (nickname == null || nickname.isBlank()) {
+    private BooleanExpression nicknameContains(String nickname, Set<Long> nicknameUserIds, LocalDateTime indexedBefore) {
+        if (!hasText(nickname)) {
             return null;
         }
-        return user.nickname.contains(nickname);
+        if (nicknameUserIds == null) {
+            return user.nickname.contains(nickname);
+        }
+        return indexedOrRecent(idIn(todo.user.id, nicknameUserIds), user.createdAt, indexedBefore, user.nickname.contains(nickname));
+    }
+
+    // 색인 후보 OR (색인 이후 생성 AND LIKE) — 색인 이후 구간은 created_at 범위로 좁혀 스캔
+    private BooleanExpression indexedOrRecent(BooleanExpression indexed,
+                                              DateTimePath<LocalDateTime> createdAt,
+                                              LocalDateTime indexedBefore,
+                                              BooleanExpression contains) {
+        if (indexedBefore == null) {
+            return indexed;
+        }
+        return indexed.or(createdAt.goe(indexedBefore).and(contains));
+    }
+
+    // 후보가 없으면 결과도 없어야 하므로 항상 거짓인 조건(id IS NULL)을 사용
+    private BooleanExpression idIn(NumberPath<Long> idPath, Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return idPath.isNull();
+        }
+        return idPath.in(ids);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
     }
 
     private BooleanExpression createdAtFrom(LocalDateTime startDate) {
@@ -1,32 +1,114 @@
 package org.example.expert.domain.todo.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.expert.domain.todo.entity.Todo;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 public interface TodoRepository extends JpaRepository<Todo, Long>, TodoCustomRepository {
 
     @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC")
     Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
 
-    @Query("SELECT t FROM Todo t WHERE t.weather = :weather AND t.modifiedAt between :startDate and :endDate")
+    @EntityGraph(Todo.WITH_USER_GRAPH)
+    @Query("SELECT t FROM Todo t WHERE t.weather = :weather AND t.modifiedAt between :startDate and :endDate ORDER BY t.modifiedAt DESC")
     Page<Todo> findByWeatherAndDateRange(
             @Param("weather") String weather,
             @Param("startDate") LocalDateTime searchStartDate,
             @Param("endDate") LocalDateTime searchEndDate,
             Pageable pageable);
 
-    @Query("SELECT t FROM Todo t WHERE t.weather = :weather")
+    @EntityGraph(Todo.WITH_USER_GRAPH)
+    @Query("SELECT t FROM Todo t WHERE t.weather = :weather ORDER BY t.modifiedAt DESC")
     Page<Todo> findByWeather(@Param("weather") String weather, Pageable pageable);
 
-    @Query("SELECT t FROM Todo t WHERE t.modifiedAt between :startDate and :endDate")
+    @EntityGraph(Todo.WITH_USER_GRAPH)
+    @Query("SELECT t FROM Todo t WHERE t.modifiedAt between :startDate and :endDate ORDER BY t.modifiedAt DESC")
     Page<Todo> findByDateRange(
             @Param("startDate") LocalDateTime searchStartDate,
             @Param("endDate") LocalDateTime searchEndDate,
             Pageable pageable);
+
+    // Slice 조회: count 쿼리 없이 size + 1 건만 조회해 다음 페이지 여부를 판단
+    @Query("SELECT t FROM Todo t LEFT JOIN FETCH t.user u ORDER BY t.modifiedAt DESC")
+    Slice<Todo> findSliceByOrderByModifiedAtDesc(Pageable pageable);
+
+    @EntityGraph(Todo.WITH_USER_GRAPH)
+    @Query("SELECT t FROM Todo t WHERE t.weather = :weather AND t.modifiedAt between :startDate and :endDate ORDER BY t.modifiedAt DESC")
+    Slice<Todo> findSliceByWeatherAndDateRange(
+            @Param("weather") String weather,
+            @Param("startDate") LocalDateTime searchStartDate,
+            @Param("endDate") LocalDateTime searchEndDate,
+            Pageable pageable);
+
+    @EntityGraph(Todo.WITH_USER_GRAPH)
+    @Query("SELECT t FROM Todo t WHERE t.weather = :weather ORDER BY t.modifiedAt DESC")
+    Slice<Todo> findSliceByWeather(@Param("weather") String weather, Pageable pageable);
+
+    @EntityGraph(Todo.WITH_USER_GRAPH)
+    @Query("SELECT t FROM Todo t WHERE t.modifiedAt between :startDate and :endDate ORDER BY t.modifiedAt DESC")
+    Slice<Todo> findSliceByDateRange(
+            @Param("startDate") LocalDateTime searchStartDate,
+            @Param("endDate") LocalDateTime searchEndDate,
+            Pageable pageable);
+
+    long countByWeather(String weather);
+
+    long countByModifiedAtBetween(LocalDateTime searchStartDate, LocalDateTime searchEndDate);
+
+    long countByWeatherAndModifiedAtBetween(String weather, LocalDateTime searchStartDate, LocalDateTime searchEndDate);
+
+    // 집계 컬럼 증감은 DB에서 원자적으로 처리해 동시 요청에서도 값이 유실되지 않도록 함
+    @Modifying
+    @Query("UPDATE Todo t SET t.commentCount = t.commentCount + :count WHERE t.id = :todoId")
+    int increaseCommentCount(@Param("todoId") long todoId, @Param("count") long count);
+
+    @Modifying
+    @Query("UPDATE Todo t SET t.managerCount = t.managerCount + 1 WHERE t.id = :todoId")
+    int incrementManagerCount(@Param("todoId") long todoId);
+
+    @Modifying
+    @Query("UPDATE Todo t SET t.managerCount = t.managerCount - 1 WHERE t.id = :todoId AND t.managerCount > 0")
+    int decrementManagerCount(@Param("todoId") long todoId);
+
+    // 작성자 확인용 (엔티티를 로딩하지 않고 FK 값만 조회)
+    @Query("SELECT t.user.id FROM Todo t WHERE t.id = :todoId")
+    Optional<Long> findOwnerIdById(@Param("todoId") long todoId);
+
+    // 검색 인덱스 적재용 (id 순으로 구간 조회)
+    List<TodoTitleView> findTop1000ByIdGreaterThanOrderByIdAsc(Long id);
+
+    // 내보내기용 id 순 페이지 조회 (id 기준 keyset, 2차 캐시 미사용)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT t FROM Todo t JOIN FETCH t.user WHERE t.id > :id ORDER BY t.id")
+    List<Todo> findPageAfterIdWithUser(@Param("id") long id, Limit limit);
+
+    @Query("SELECT MAX(t.id) FROM Todo t")
+    Long findMaxId();
+
+    // 집계 컬럼을 실제 댓글/담당자 수로 다시 맞춤 (id 구간 단위로 실행)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Todo t SET " +
+            "t.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.todo.id = t.id), " +
+            "t.managerCount = (SELECT COUNT(m) FROM Manager m WHERE m.todo.id = t.id) " +
+            "WHERE t.id > :fromId AND t.id <= :toId")
+    int reconcileCounts(@Param("fromId") long fromId, @Param("toId") long toId);
 }
@@ -0,0 +1,9 @@
+package org.example.expert.domain.todo.repository;
+
+// 검색 인덱스 적재용 프로젝션 (id, 제목만 조회)
+public interface TodoTitleView {
+
+    Long getId();
+
+    String getTitle();
+}
@@ -0,0 +1,53 @@
+package org.example.expert.domain.todo.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.example.expert.domain.todo.dto.request.TodoListCondition;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Todo 목록 조건별 전체 개수 캐시
+ * - 조건별로 처음 요청될 때만 count 쿼리를 실행하고, 이후에는 캐시된 값을 반환
+ * - refresh-after-write가 지난 값은 그대로 반환하면서 백그라운드에서 다시 집계하므로 값은 근사치
+ * - 자주 쓰이지 않는 조건은 maximum-size를 넘으면 제거되고, 갱신이 계속 실패해도 expire-after-write 이후에는 다시 집계
+ */
+@Component
+public class TodoCountCache {
+
+    private final TodoRepository todoRepository;
+    private final LoadingCache<TodoListCondition, Long> counts;
+
+    public TodoCountCache(
+            TodoRepository todoRepository,
+            @Value("${todo.count-cache.maximum-size:1000}") long maximumSize,
+            @Value("${todo.count-cache.refresh-after-write:PT1M}") Duration refreshAfterWrite,
+            @Value("${todo.count-cache.expire-after-write:PT10M}") Duration expireAfterWrite) {
+        this.todoRepository = todoRepository;
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .refreshAfterWrite(refreshAfterWrite)
+                .expireAfterWrite(expireAfterWrite)
+                .build(this::countFromDatabase);
+    }
+
+    public long getCount(TodoListCondition condition) {
+        return counts.get(condition);
+    }
+
+    private long countFromDatabase(TodoListCondition condition) {
+        if (condition.hasDateRange() && condition.hasWeather()) {
+            return todoRepository.countByWeatherAndModifiedAtBetween(condition.getWeather(), condition.getStartDate(), condition.getEndDate());
+        }
+        if (condition.hasDateRange()) {
+            return todoRepository.countByModifiedAtBetween(condition.getStartDate(), condition.getEndDate());
+        }
+        if (condition.hasWeather()) {
+            return todoRepository.countByWeather(condition.getWeather());
+        }
+        return todoRepository.count();
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Todo 댓글 수/담당자 수 집계 컬럼 보정 작업
+ * - 증감 누락(장애, 수동 데이터 변경 등)으로 어긋난 값을 실제 개수로 다시 맞춤
+ * - 한 번에 전체 테이블을 잠그지 않도록 id 구간 단위로 나누어 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoCounterReconciler {
+
+    private static final long CHUNK_SIZE = 1000;
+
+    private final TodoRepository todoRepository;
+
+    @Scheduled(cron = "${todo.counter.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        Long maxId = todoRepository.findMaxId();
+        if (maxId == null) {
+            return;
+        }
+
+        int updated = 0;
+        for (long fromId = 0; fromId < maxId; fromId += CHUNK_SIZE) {
+            updated += todoRepository.reconcileCounts(fromId, Math.min(fromId + CHUNK_SIZE, maxId));
+        }
+        log.info("Todo counter reconciliation finished. updated rows: {}", updated);
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.annotation.PreDestroy;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Todo 상세 조회 (Todo + 댓글 첫 페이지 + 담당자)
+ * - 세 조회를 별도 스레드에서 각자의 읽기 전용 트랜잭션(= 각자의 커넥션)으로 동시에 실행하고 한 응답으로 합침
+ * - 댓글은 커서 조회의 첫 페이지만 담고, 나머지는 nextCursor로 /todos/{todoId}/comments/cursor 에서 이어서 조회
+ * - 요청 스레드의 SecurityContext를 전달해 읽기 DataSource 라우팅(read-your-writes)이 그대로 적용되도록 함
+ * - 풀이 가득 차면 요청 스레드에서 직접 실행 (CallerRunsPolicy)
+ * - 조회 트랜잭션에 timeout-ms(초 단위로 올림)의 시간 제한을 걸어, 응답을 포기한 뒤에도 실행 중인 쿼리가
+ *   커넥션을 계속 잡고 있지 않도록 JDBC 쿼리 타임아웃으로 중단시킴
+ *   (CompletableFuture.cancel은 실행 중인 작업을 인터럽트하지 않음)
+ */
+@Service
+public class TodoDetailService {
+
+    private final TodoRepository todoRepository;
+    private final CommentService commentService;
+    private final ManagerRepository managerRepository;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final ExecutorService executor;
+    private final long timeoutMillis;
+    private final int commentPageSize;
+
+    public TodoDetailService(
+            TodoRepository todoRepository,
+            CommentService commentService,
+            ManagerRepository managerRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${todo.detail.threads:16}") int threads,
+            @Value("${todo.detail.queue-capacity:100}") int queueCapacity,
+            @Value("${todo.detail.timeout-ms:3000}") long timeoutMillis,
+            @Value("${todo.detail.comment-page-size:20}") int commentPageSize) {
+        this.todoRepository = todoRepository;
+        this.commentService = commentService;
+        this.managerRepository = managerRepository;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.readOnlyTransactionTemplate.setTimeout((int) Math.max(1, (timeoutMillis + 999) / 1000));
+        this.timeoutMillis = timeoutMillis;
+        this.commentPageSize = commentPageSize;
+
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "todo-detail-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        this.executor = new DelegatingSecurityContextExecutorService(threadPoolExecutor);
+    }
+
+    public TodoDetailResponse getTodoDetail(long todoId) {
+        CompletableFuture<TodoResponse> todoFuture =
+                supplyInReadOnlyTransaction(() -> todoRepository.findByIdWithUser(todoId));
+
+        CompletableFuture<CursorResponse<CommentResponse>> commentsFuture = supplyInReadOnlyTransaction(() ->
+                commentService.getCommentsByCursor(todoId, null, commentPageSize));
+
+        CompletableFuture<List<ManagerResponse>> managersFuture = supplyInReadOnlyTransaction(() ->
+                managerRepository.findByTodoIdWithUser(todoId).stream()
+                        .map(manager -> new ManagerResponse(
+                                manager.getId(),
+                                new UserResponse(manager.getUser().getId(), manager.getUser().getEmail())))
+                        .toList());
+
+        try {
+            CompletableFuture.allOf(todoFuture, commentsFuture, managersFuture)
+                    .get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("Todo 상세 조회 중 인터럽트가 발생했습니다.");
+        } catch (TimeoutException e) {
+            // 아직 시작하지 않은 조회만 건너뜀 (실행 중인 쿼리는 트랜잭션 시간 제한으로 중단됨)
+            todoFuture.cancel(false);
+            commentsFuture.cancel(false);
+            managersFuture.cancel(false);
+            throw new ServerException("Todo 상세 조회 시간이 초과되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ServerException("Todo 상세 조회에 실패했습니다.");
+        }
+
+        TodoResponse todo = todoFuture.join();
+        if (todo == null) {
+            throw new InvalidRequestException("Todo not found");
+        }
+        return new TodoDetailResponse(todo, commentsFuture.join(), managersFuture.join());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> CompletableFuture<T> supplyInReadOnlyTransaction(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(() -> readOnlyTransactionTemplate.execute(status -> query.get()), executor);
+    }
+}
@@ -0,0 +1,137 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoExportResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Todo 전체 내보내기 (NDJSON: 한 줄에 Todo 하나, 작성자/댓글/담당자 포함)
+ * - Todo(+작성자)를 id 순으로 chunk-size 건씩 끊어 읽고, 댓글/담당자는 todo id IN 조회로 한 번에 가져옴
+ * - DB 커서(fetch size)에 의존하지 않으므로 드라이버가 결과 전체를 메모리에 올리지 않음
+ *   (MySQL Connector/J는 useCursorFetch 없이는 fetch size를 무시하고 전체를 버퍼링함)
+ * - chunk마다 짧은 읽기 트랜잭션에서 응답 행을 만들고, 트랜잭션(= 커넥션)을 반납한 뒤 출력
+ */
+@Service
+public class TodoExportService {
+
+    private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final ObjectWriter rowWriter;
+    private final int chunkSize;
+
+    public TodoExportService(
+            TodoRepository todoRepository,
+            CommentRepository commentRepository,
+            ManagerRepository managerRepository,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            @Value("${todo.export.chunk-size:500}") int chunkSize) {
+        this.todoRepository = todoRepository;
+        this.commentRepository = commentRepository;
+        this.managerRepository = managerRepository;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.rowWriter = objectMapper.writerFor(TodoExportResponse.class);
+        this.chunkSize = chunkSize;
+    }
+
+    public void exportTo(OutputStream outputStream) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        long lastId = 0;
+        while (true) {
+            long afterId = lastId;
+            List<TodoExportResponse> rows = readOnlyTransactionTemplate.execute(status -> readChunk(afterId));
+            if (rows.isEmpty()) {
+                return;
+            }
+
+            writeChunk(writer, rows);
+            if (rows.size() < chunkSize) {
+                return;
+            }
+            lastId = rows.get(rows.size() - 1).getId();
+        }
+    }
+
+    private List<TodoExportResponse> readChunk(long afterId) {
+        List<Todo> todos = todoRepository.findPageAfterIdWithUser(afterId, Limit.of(chunkSize));
+        if (todos.isEmpty()) {
+            return List.of();
+        }
+        List<Long> todoIds = todos.stream().map(Todo::getId).toList();
+
+        Map<Long, List<CommentResponse>> commentsByTodoId = new HashMap<>();
+        for (Comment comment : commentRepository.findByTodoIdInWithUser(todoIds)) {
+            commentsByTodoId.computeIfAbsent(comment.getTodo().getId(), id -> new ArrayList<>())
+                    .add(new CommentResponse(comment.getId(), comment.getContents(), toUserResponse(comment.getUser())));
+        }
+
+        Map<Long, List<ManagerResponse>> managersByTodoId = new HashMap<>();
+        for (Manager manager : managerRepository.findByTodoIdInWithUser(todoIds)) {
+            managersByTodoId.computeIfAbsent(manager.getTodo().getId(), id -> new ArrayList<>())
+                    .add(new ManagerResponse(manager.getId(), toUserResponse(manager.getUser())));
+        }
+
+        List<TodoExportResponse> rows = new ArrayList<>(todos.size());
+        for (Todo todo : todos) {
+            rows.add(new TodoExportResponse(
+                    todo.getId(),
+                    todo.getTitle(),
+                    todo.getContents(),
+                    todo.getWeather(),
+                    toUserResponse(todo.getUser()),
+                    commentsByTodoId.getOrDefault(todo.getId(), List.of()),
+                    managersByTodoId.getOrDefault(todo.getId(), List.of()),
+                    todo.getCreatedAt(),
+                    todo.getModifiedAt()
+            ));
+        }
+        return rows;
+    }
+
+    private void writeChunk(Writer writer, List<TodoExportResponse> rows) {
+        try {
+            for (TodoExportResponse row : rows) {
+                writer.write(rowWriter.writeValueAsString(row));
+                writer.write('\n');
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static UserResponse toUserResponse(User user) {
+        return new UserResponse(user.getId(), user.getEmail());
+    }
+}
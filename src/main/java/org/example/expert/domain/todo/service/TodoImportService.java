@@ -0,0 +1,223 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoImportError;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Todo 일괄 등록 (NDJSON: 한 줄에 TodoSaveRequest 하나)
+ * - 요청 본문 전체를 메모리에 올리지 않고 한 줄씩 읽어 chunk-size 단위로 저장
+ * - 날씨는 chunk마다 한 번만 조회하고, 저장은 chunk별 트랜잭션(JDBC 배치)으로 처리
+ * - 형식/검증 오류가 있는 줄은 건너뛰고 줄 번호와 사유를 응답에 담음 (최대 max-errors건)
+ * - max-line-length를 넘는 줄은 끝까지 버퍼에 담지 않고 버린 뒤 오류로 기록 (줄바꿈 없는 본문으로 메모리를 채우지 못하도록)
+ */
+@Slf4j
+@Service
+public class TodoImportService {
+
+    private final TodoRepository todoRepository;
+    private final WeatherClient weatherClient;
+    private final TodoSearchIndex todoSearchIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectReader requestReader;
+    private final int chunkSize;
+    private final int maxErrors;
+    private final int maxLineLength;
+
+    public TodoImportService(
+            TodoRepository todoRepository,
+            WeatherClient weatherClient,
+            TodoSearchIndex todoSearchIndex,
+            TransactionTemplate transactionTemplate,
+            Validator validator,
+            ObjectMapper objectMapper,
+            @Value("${todo.import.chunk-size:500}") int chunkSize,
+            @Value("${todo.import.max-errors:100}") int maxErrors,
+            @Value("${todo.import.max-line-length:8192}") int maxLineLength) {
+        this.todoRepository = todoRepository;
+        this.weatherClient = weatherClient;
+        this.todoSearchIndex = todoSearchIndex;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.requestReader = objectMapper.readerFor(TodoSaveRequest.class);
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+        this.maxLineLength = maxLineLength;
+    }
+
+    public TodoImportResponse importTodos(AuthUser authUser, InputStream body) {
+        User user = User.fromAuthUser(authUser);
+        ImportResult result = new ImportResult();
+        List<PendingTodo> chunk = new ArrayList<>(chunkSize);
+
+        try (BoundedLineReader reader = new BoundedLineReader(
+                new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)), maxLineLength)) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (reader.isOverflowed()) {
+                    result.fail(lineNumber, "한 줄의 길이가 " + maxLineLength + "자를 넘습니다.", maxErrors);
+                    continue;
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                TodoSaveRequest request = parse(line, lineNumber, result);
+                if (request == null) {
+                    continue;
+                }
+
+                chunk.add(new PendingTodo(lineNumber, request));
+                if (chunk.size() == chunkSize) {
+                    saveChunk(user, chunk, result);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new InvalidRequestException("요청 본문을 읽는 중 오류가 발생했습니다.");
+        }
+
+        if (!chunk.isEmpty()) {
+            saveChunk(user, chunk, result);
+        }
+
+        return new TodoImportResponse(result.importedCount, result.failedCount, result.errors);
+    }
+
+    private TodoSaveRequest parse(String line, long lineNumber, ImportResult result) {
+        TodoSaveRequest request;
+        try {
+            request = requestReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            result.fail(lineNumber, "JSON 형식이 올바르지 않습니다.", maxErrors);
+            return null;
+        }
+
+        Set<ConstraintViolation<TodoSaveRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<TodoSaveRequest> violation = violations.iterator().next();
+            result.fail(lineNumber, violation.getPropertyPath() + ": " + violation.getMessage(), maxErrors);
+            return null;
+        }
+        return request;
+    }
+
+    // 한 chunk는 하나의 트랜잭션으로 저장하고, 실패하면 chunk 전체를 실패로 기록
+    private void saveChunk(User user, List<PendingTodo> chunk, ImportResult result) {
+        String weather = weatherClient.getTodayWeather();
+
+        List<Todo> todos = new ArrayList<>(chunk.size());
+        for (PendingTodo pending : chunk) {
+            todos.add(new Todo(pending.request().getTitle(), pending.request().getContents(), weather, user));
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Todo savedTodo : todoRepository.saveAll(todos)) {
+                    todoSearchIndex.indexTodo(savedTodo.getId(), savedTodo.getTitle());
+                }
+            });
+            result.importedCount += chunk.size();
+        } catch (DataAccessException e) {
+            log.warn("Todo 일괄 등록 chunk 저장에 실패했습니다. lines: {}~{}, reason: {}",
+                    chunk.get(0).lineNumber(), chunk.get(chunk.size() - 1).lineNumber(), e.getMessage());
+            for (PendingTodo pending : chunk) {
+                result.fail(pending.lineNumber(), "저장에 실패했습니다.", maxErrors);
+            }
+        }
+    }
+
+    private record PendingTodo(long lineNumber, TodoSaveRequest request) {
+    }
+
+    // '\n' 단위로 읽되 maxLength를 넘는 줄은 나머지를 버리고 isOverflowed로 알려 줌 ('\r'은 무시)
+    private static class BoundedLineReader implements Closeable {
+
+        private final Reader reader;
+        private final int maxLength;
+        private final StringBuilder buffer = new StringBuilder();
+        private boolean overflowed;
+
+        BoundedLineReader(Reader reader, int maxLength) {
+            this.reader = reader;
+            this.maxLength = maxLength;
+        }
+
+        String readLine() throws IOException {
+            buffer.setLength(0);
+            overflowed = false;
+
+            int c;
+            boolean read = false;
+            while ((c = reader.read()) != -1) {
+                read = true;
+                if (c == '\n') {
+                    return buffer.toString();
+                }
+                if (c == '\r' || overflowed) {
+                    continue;
+                }
+                if (buffer.length() == maxLength) {
+                    overflowed = true;
+                    buffer.setLength(0);
+                    continue;
+                }
+                buffer.append((char) c);
+            }
+            return read ? buffer.toString() : null;
+        }
+
+        boolean isOverflowed() {
+            return overflowed;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    private static class ImportResult {
+
+        private long importedCount;
+        private long failedCount;
+        private final List<TodoImportError> errors = new ArrayList<>();
+
+        void fail(long lineNumber, String message, int maxErrors) {
+            failedCount++;
+            if (errors.size() < maxErrors) {
+                errors.add(new TodoImportError(lineNumber, message));
+            }
+        }
+    }
+}
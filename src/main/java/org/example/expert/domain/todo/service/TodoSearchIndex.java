@@ -0,0 +1,209 @@
+package org.example.expert.domain.todo.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.search.NgramIndex;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoTitleView;
+import org.example.expert.domain.user.repository.UserNicknameView;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Todo 검색용 메모리 색인 (일정 제목, 작성자 닉네임)
+ * - 검색어를 DB 조회 전에 후보 id 목록으로 바꿔 LIKE '%kw%' 전체 스캔을 피함
+ * - 애플리케이션 시작 시 DB에서 전체를 적재하고, 이후에는 저장 시점마다 반영
+ * - 다른 인스턴스에서 저장된 데이터도 반영되도록 주기적으로 다시 적재
+ * - 색인은 인스턴스마다 따로 가지므로, 마지막 적재 시점(indexedBefore) 이후 생성된 행은
+ *   색인에 없을 수 있음 → 검색 쿼리에서 이 구간만 LIKE 조건으로 함께 확인
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoSearchIndex {
+
+    private static final int LOAD_CHUNK_SIZE = 1000; // findTop1000... 과 맞춤
+
+    private final TodoRepository todoRepository;
+    private final UserRepository userRepository;
+
+    // 후보가 이보다 많으면 IN 조건보다 LIKE 검색이 나으므로 인덱스를 사용하지 않음
+    @Value("${todo.search-index.max-candidates:1000}")
+    private int maxCandidates;
+
+    // 적재 시작 시각에서 이 값만큼 앞선 시점까지를 색인이 보장하는 구간으로 봄
+    // (적재 중 커밋된 트랜잭션, 인스턴스 간 시계 차이를 흡수)
+    @Value("${todo.search-index.freshness-margin-ms:300000}")
+    private long freshnessMarginMs;
+
+    private volatile NgramIndex titleIndex = new NgramIndex();
+    private volatile NgramIndex nicknameIndex = new NgramIndex();
+
+    // 재적재 중 들어온 변경을 새 색인에도 반영하기 위한 참조
+    private volatile NgramIndex rebuildingTitleIndex;
+    private volatile NgramIndex rebuildingNicknameIndex;
+
+    // 색인 반영과 색인 교체가 엇갈려 새 색인에서 누락되지 않도록 둘을 같은 락으로 묶음
+    private final Object swapLock = new Object();
+
+    private volatile LocalDateTime indexedBefore;
+    private volatile boolean ready;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final ExecutorService warmUpExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "todo-search-index-warm-up");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 이 시각 이전에 생성된 행은 색인에 모두 들어 있음을 보장 (적재 전이면 null)
+     * - 후보 id 조회보다 먼저 읽어야 함 (색인은 교체될수록 범위가 넓어지므로 먼저 읽은 값이 더 보수적)
+     */
+    public LocalDateTime getIndexedBefore() {
+        return ready ? indexedBefore : null;
+    }
+
+    // 인덱스로 판단할 수 없으면 null (적재 전이거나 후보가 너무 많은 경우)
+    public Set<Long> findTodoIdsByTitle(String keyword) {
+        return lookup(titleIndex, keyword);
+    }
+
+    public Set<Long> findUserIdsByNickname(String nickname) {
+        return lookup(nicknameIndex, nickname);
+    }
+
+    // 롤백된 데이터가 색인에 남지 않도록 커밋 이후에 반영
+    public void indexTodo(long todoId, String title) {
+        afterCommit(() -> {
+            synchronized (swapLock) {
+                titleIndex.put(todoId, title);
+                NgramIndex next = rebuildingTitleIndex;
+                if (next != null) {
+                    next.put(todoId, title);
+                }
+            }
+        });
+    }
+
+    public void indexUser(long userId, String nickname) {
+        afterCommit(() -> {
+            synchronized (swapLock) {
+                nicknameIndex.put(userId, nickname);
+                NgramIndex next = rebuildingNicknameIndex;
+                if (next != null) {
+                    next.put(userId, nickname);
+                }
+            }
+        });
+    }
+
+    // 전체 적재는 오래 걸릴 수 있으므로 시작 스레드를 막지 않도록 별도 스레드에서 실행 (그동안은 LIKE 검색)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        warmUpExecutor.execute(this::rebuild);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        warmUpExecutor.shutdownNow();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${todo.search-index.rebuild-interval-ms:600000}",
+            initialDelayString = "${todo.search-index.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            LocalDateTime loadStartedAt = LocalDateTime.now();
+            NgramIndex titles = new NgramIndex();
+            NgramIndex nicknames = new NgramIndex();
+            synchronized (swapLock) {
+                rebuildingTitleIndex = titles;
+                rebuildingNicknameIndex = nicknames;
+            }
+
+            loadTitles(titles);
+            loadNicknames(nicknames);
+
+            synchronized (swapLock) {
+                titleIndex = titles;
+                nicknameIndex = nicknames;
+            }
+            // 새 색인을 먼저 공개한 뒤 범위를 넓혀야 조회 쪽이 좁은 색인 + 넓은 범위 조합을 보지 않음
+            indexedBefore = loadStartedAt.minusNanos(freshnessMarginMs * 1_000_000);
+            ready = true;
+            log.info("Todo search index rebuilt. todos: {}, users: {}", titles.size(), nicknames.size());
+        } catch (RuntimeException e) {
+            // 실패하면 기존 색인을 계속 사용 (적재 전이라면 LIKE 검색으로 처리)
+            log.warn("Todo search index rebuild failed: {}", e.getMessage());
+        } finally {
+            synchronized (swapLock) {
+                rebuildingTitleIndex = null;
+                rebuildingNicknameIndex = null;
+            }
+            rebuilding.set(false);
+        }
+    }
+
+    private Set<Long> lookup(NgramIndex index, String keyword) {
+        if (!ready || keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        Set<Long> ids = index.search(keyword);
+        return ids.size() > maxCandidates ? null : ids;
+    }
+
+    private void loadTitles(NgramIndex titles) {
+        long lastId = 0;
+        List<TodoTitleView> chunk;
+        do {
+            chunk = todoRepository.findTop1000ByIdGreaterThanOrderByIdAsc(lastId);
+            for (TodoTitleView view : chunk) {
+                titles.put(view.getId(), view.getTitle());
+                lastId = view.getId();
+            }
+        } while (chunk.size() == LOAD_CHUNK_SIZE);
+    }
+
+    private void loadNicknames(NgramIndex nicknames) {
+        long lastId = 0;
+        List<UserNicknameView> chunk;
+        do {
+            chunk = userRepository.findTop1000ByIdGreaterThanOrderByIdAsc(lastId);
+            for (UserNicknameView view : chunk) {
+                nicknames.put(view.getId(), view.getNickname());
+                lastId = view.getId();
+            }
+        } while (chunk.size() == LOAD_CHUNK_SIZE);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -3,8 +3,13 @@ package org.example.expert.domain.todo.service;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.dto.SliceResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoListCondition;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
@@ -15,12 +20,12 @@ import org.example.expert.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.List;
 
 @Service
@@ -29,8 +34,14 @@ public class TodoService {
 
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
-
-    @Transactional
+    private final TodoCountCache todoCountCache;
+    private final TodoSearchIndex todoSearchIndex;
+
+    /**
+     * 외부 API(날씨) 조회는 트랜잭션 밖에서 먼저 수행
+     * - 트랜잭션 안에서 호출하면 응답을 기다리는 동안 DB 커넥션을 점유하게 됨
+     * - Todo와 작성자 Manager 저장은 todoRepository.save의 트랜잭션 하나로 처리
+     */
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
@@ -43,6 +54,7 @@ public class TodoService {
                 user
         );
         Todo savedTodo = todoRepository.save(newTodo);
+        todoSearchIndex.indexTodo(savedTodo.getId(), savedTodo.getTitle());
 
         return new TodoSaveResponse(
                 savedTodo.getId(),
@@ -56,38 +68,69 @@ public class TodoService {
     @Transactional(readOnly = true)
     public Page<TodoResponse> getTodos(int page, int size, String weather, LocalDate startDate, LocalDate endDate) {
         Pageable pageable = PageRequest.of(page - 1, size);
+        TodoListCondition condition = TodoListCondition.of(weather, startDate, endDate);
+
+        // 조건에 맞는 쿼리 하나만 실행 (모든 쿼리는 작성자를 함께 조회)
+        Page<Todo> todos;
+        if (condition.hasDateRange() && condition.hasWeather()) {
+            todos = todoRepository.findByWeatherAndDateRange(condition.getWeather(), condition.getStartDate(), condition.getEndDate(), pageable);
+        } else if (condition.hasDateRange()) {
+            todos = todoRepository.findByDateRange(condition.getStartDate(), condition.getEndDate(), pageable);
+        } else if (condition.hasWeather()) {
+            todos = todoRepository.findByWeather(condition.getWeather(), pageable);
+        } else {
+            // 기본은 조건 없이 전체 목록 조회 (최신 수정일 기준)
+            todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
+        }
+
+        return todos.map(this::toTodoResponse);
+    }
 
-        // 기본은 조건 없이 전체 목록 조회 (최신 수정일 기준)
-        Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
-
-        boolean hasWeather = weather != null && !weather.isBlank();
-        boolean hasDateRange = startDate != null && endDate != null && !startDate.isAfter(endDate);
-
-        if (hasDateRange) {
-            // 날짜만 받은 경우, 하루 전체 범위로 조회하기 위해 시간 범위로 변환
-            LocalDateTime searchStartDate = startDate.atTime(LocalTime.MIN);
-            LocalDateTime searchEndDate = endDate.atTime(LocalTime.MAX);
-
-            // 날짜 조건이 있을 때, weather 조건이 있으면 함께 적용
-            if (hasWeather) {
-                todos = todoRepository.findByWeatherAndDateRange(weather,searchStartDate, searchEndDate, pageable);
-            } else {
-                todos = todoRepository.findByDateRange(searchStartDate, searchEndDate, pageable);
-            }
-        } else if (hasWeather) {
-            // weather 조건만 있을 때
-                todos = todoRepository.findByWeather(weather, pageable);
+    /**
+     * getTodos와 같은 조건으로 조회하되 Page 대신 Slice로 조회
+     * - 전체 개수(count) 쿼리를 매 요청마다 실행하지 않음
+     * - withTotal이 true인 경우에만 캐시된 근사 전체 개수를 함께 반환
+     */
+    @Transactional(readOnly = true)
+    public SliceResponse<TodoResponse> getTodoSlice(int page, int size, String weather, LocalDate startDate, LocalDate endDate, boolean withTotal) {
+        Pageable pageable = PageRequest.of(page - 1, size);
+        TodoListCondition condition = TodoListCondition.of(weather, startDate, endDate);
+
+        Slice<Todo> todos;
+        if (condition.hasDateRange() && condition.hasWeather()) {
+            todos = todoRepository.findSliceByWeatherAndDateRange(condition.getWeather(), condition.getStartDate(), condition.getEndDate(), pageable);
+        } else if (condition.hasDateRange()) {
+            todos = todoRepository.findSliceByDateRange(condition.getStartDate(), condition.getEndDate(), pageable);
+        } else if (condition.hasWeather()) {
+            todos = todoRepository.findSliceByWeather(condition.getWeather(), pageable);
+        } else {
+            todos = todoRepository.findSliceByOrderByModifiedAtDesc(pageable);
         }
 
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+        Long totalElements = withTotal ? todoCountCache.getCount(condition) : null;
+
+        return new SliceResponse<>(
+                todos.map(this::toTodoResponse).getContent(),
+                page,
+                size,
+                todos.hasNext(),
+                totalElements
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public CursorResponse<TodoResponse> getTodosByCursor(String cursor, int size, String weather, LocalDate startDate, LocalDate endDate) {
+        Cursor.validateSize(size);
+
+        TodoListCondition condition = TodoListCondition.of(weather, startDate, endDate);
+
+        return todoRepository.findTodosByCursor(
+                Cursor.decode(cursor),
+                size,
+                condition.getWeather(),
+                condition.getStartDate(),
+                condition.getEndDate()
+        );
     }
 
     @Transactional(readOnly = true)
@@ -118,12 +161,60 @@ public class TodoService {
         List<TodoSearchResponse> todoSearchResponseList = todoRepository.searchTodos(
                 page,
                 size,
+                toSearchCondition(keyword, startDate, endDate, nickname)
+        );
+
+        return todoSearchResponseList;
+    }
+
+    @Transactional(readOnly = true)
+    public CursorResponse<TodoSearchResponse> searchTodosByCursor(
+            String cursor,
+            int size,
+            String keyword,
+            LocalDate from,
+            LocalDate to,
+            String nickname) {
+        Cursor.validateSize(size);
+
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidRequestException("시작일은 종료일보다 클 수 없습니다.");
+        }
+
+        LocalDateTime startDate = from != null ? from.atStartOfDay() : null;
+        LocalDateTime endDate = to != null ? to.plusDays(1).atStartOfDay() : null;
+
+        return todoRepository.searchTodosByCursor(
+                Cursor.decode(cursor),
+                size,
+                toSearchCondition(keyword, startDate, endDate, nickname)
+        );
+    }
+
+    // 제목/닉네임 조건은 검색 인덱스로 후보 id를 먼저 찾아 DB 조건으로 넘김
+    private TodoSearchCondition toSearchCondition(String keyword, LocalDateTime startDate, LocalDateTime endDate, String nickname) {
+        // 색인 범위는 후보 id보다 먼저 읽음 (TodoSearchIndex.getIndexedBefore 참고)
+        LocalDateTime indexedBefore = todoSearchIndex.getIndexedBefore();
+        return new TodoSearchCondition(
                 keyword,
                 startDate,
                 endDate,
-                nickname
+                nickname,
+                todoSearchIndex.findTodoIdsByTitle(keyword),
+                todoSearchIndex.findUserIdsByNickname(nickname),
+                indexedBefore
         );
+    }
 
-        return todoSearchResponseList;
+    private TodoResponse toTodoResponse(Todo todo) {
+        return new TodoResponse(
+                todo.getId(),
+                todo.getTitle(),
+                todo.getContents(),
+                todo.getWeather(),
+                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+                todo.getCreatedAt(),
+                todo.getModifiedAt()
+        );
     }
 }
@@ -0,0 +1,12 @@
+package org.example.expert.domain.user.repository;
+
+import org.example.expert.domain.user.entity.User;
+
+import java.util.Optional;
+
+public interface UserCustomRepository {
+
+    Optional<User> findByEmailNaturalId(String email);
+
+    int updatePasswordIfUnchanged(long userId, String expectedPassword, String newPassword);
+}
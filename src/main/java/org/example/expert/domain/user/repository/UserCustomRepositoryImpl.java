@@ -0,0 +1,43 @@
+package org.example.expert.domain.user.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.user.entity.User;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * User 조회용 Custom Repository 구현체
+ * - 이메일(natural id) 조회는 JPQL 대신 Hibernate natural id API를 사용해
+ *   natural id 캐시 → 엔티티 캐시 순으로 확인하고, 둘 다 없을 때만 DB를 조회
+ * - 비밀번호 조건부 변경은 JPQL 벌크 UPDATE 대신 행 잠금 후 엔티티를 수정해
+ *   User 2차 캐시 리전 전체가 아니라 해당 사용자 항목만 갱신되도록 함
+ */
+@RequiredArgsConstructor
+public class UserCustomRepositoryImpl implements UserCustomRepository {
+
+    private final EntityManager entityManager;
+
+    // 호출하는 쪽이 트랜잭션 밖(로그인)이어도 짧은 읽기 트랜잭션 안에서 조회
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findByEmailNaturalId(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+
+    // 저장된 비밀번호가 expectedPassword일 때만 newPassword로 변경 (변경된 행 수 반환, 호출하는 쪽 트랜잭션 필요)
+    @Override
+    public int updatePasswordIfUnchanged(long userId, String expectedPassword, String newPassword) {
+        User user = entityManager.find(User.class, userId, LockModeType.PESSIMISTIC_WRITE);
+        if (user == null || !expectedPassword.equals(user.getPassword())) {
+            return 0;
+        }
+        user.changePassword(newPassword);
+        return 1;
+    }
+}
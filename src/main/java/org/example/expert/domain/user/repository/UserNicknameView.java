@@ -0,0 +1,9 @@
+package org.example.expert.domain.user.repository;
+
+// 검색 인덱스 적재용 프로젝션 (id, 닉네임만 조회)
+public interface UserNicknameView {
+
+    Long getId();
+
+    String getNickname();
+}
@@ -3,9 +3,12 @@ package org.example.expert.domain.user.repository;
 import org.example.expert.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserCustomRepository {
     Optional<User> findByEmail(String email);
-    boolean existsByEmail(String email);
+
+    // 검색 인덱스 적재용 (id 순으로 구간 조회)
+    List<UserNicknameView> findTop1000ByIdGreaterThanOrderByIdAsc(Long id);
 }
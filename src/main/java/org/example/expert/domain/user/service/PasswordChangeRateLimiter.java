@@ -0,0 +1,40 @@
+package org.example.expert.domain.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.example.expert.domain.common.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사용자별 비밀번호 변경 시도 횟수 제한
+ * - 첫 시도 시점부터 window 동안 max-attempts 회까지만 허용 (고정 윈도우)
+ * - 초과하면 BCrypt 연산 전에 TooManyRequestsException(429)
+ */
+@Component
+public class PasswordChangeRateLimiter {
+
+    private final Cache<Long, AtomicInteger> attempts;
+    private final int maxAttempts;
+
+    public PasswordChangeRateLimiter(
+            @Value("${user.password-change.max-attempts:5}") int maxAttempts,
+            @Value("${user.password-change.window:PT1M}") Duration window,
+            @Value("${user.password-change.maximum-users:100000}") long maximumUsers) {
+        this.maxAttempts = maxAttempts;
+        this.attempts = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maximumUsers)
+                .build();
+    }
+
+    public void acquire(long userId) {
+        AtomicInteger count = attempts.get(userId, key -> new AtomicInteger());
+        if (count.incrementAndGet() > maxAttempts) {
+            throw new TooManyRequestsException("비밀번호 변경 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+}
@@ -1,14 +1,18 @@
 package org.example.expert.domain.user.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.config.AuthUserCache;
+import org.example.expert.config.EntityCacheEvictor;
+import org.example.expert.config.PasswordHasher;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -16,29 +20,52 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final PasswordChangeRateLimiter passwordChangeRateLimiter;
+    private final EntityCacheEvictor entityCacheEvictor;
+    private final TransactionTemplate transactionTemplate;
+    private final AuthUserCache authUserCache;
 
     public UserResponse getUser(long userId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new InvalidRequestException("User not found"));
         return new UserResponse(user.getId(), user.getEmail());
     }
 
-    @Transactional
+    /**
+     * 비밀번호 변경
+     * - BCrypt 검증/해시는 수백 ms가 걸릴 수 있으므로 트랜잭션(= DB 커넥션) 밖에서 수행
+     * - 저장된 해시 조회와 새 해시 저장만 각각 짧은 트랜잭션으로 실행
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void changePassword(long userId, UserChangePasswordRequest userChangePasswordRequest) {
         validateNewPassword(userChangePasswordRequest);
+        passwordChangeRateLimiter.acquire(userId);
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new InvalidRequestException("User not found"));
 
-        if (passwordEncoder.matches(userChangePasswordRequest.getNewPassword(), user.getPassword())) {
-            throw new InvalidRequestException("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.");
+        if (!passwordHasher.matches(userChangePasswordRequest.getOldPassword(), user.getPassword())) {
+            throw new InvalidRequestException("잘못된 비밀번호입니다.");
         }
 
-        if (!passwordEncoder.matches(userChangePasswordRequest.getOldPassword(), user.getPassword())) {
-            throw new InvalidRequestException("잘못된 비밀번호입니다.");
+        // 기존 비밀번호가 검증됐으므로 새 비밀번호가 저장된 비밀번호와 같은지는 문자열 비교로 충분함
+        if (userChangePasswordRequest.getNewPassword().equals(userChangePasswordRequest.getOldPassword())) {
+            throw new InvalidRequestException("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.");
         }
 
-        user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
+        String encodedPassword = passwordHasher.encode(userChangePasswordRequest.getNewPassword());
+        updatePassword(userId, user.getPassword(), encodedPassword);
+        authUserCache.invalidateUser(userId);
+    }
+
+    // 검증에 사용한 해시가 그대로일 때만 교체 (그 사이 비밀번호가 변경됐다면 덮어쓰지 않고 다시 시도하도록 함)
+    private void updatePassword(long userId, String verifiedPassword, String newPassword) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (userRepository.updatePasswordIfUnchanged(userId, verifiedPassword, newPassword) == 0) {
+                throw new InvalidRequestException("비밀번호가 그 사이 변경되었습니다. 다시 시도해주세요.");
+            }
+            entityCacheEvictor.evictAfterCommit(User.class, userId);
+        });
     }
 
     private static void validateNewPassword(UserChangePasswordRequest userChangePasswordRequest) {
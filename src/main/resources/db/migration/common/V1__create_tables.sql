@@ -0,0 +1,52 @@
+-- 기본 테이블 (H2 MySQL 모드 / MySQL 공통 문법)
+
+CREATE TABLE users
+(
+    id          BIGINT       NOT NULL,
+    nickname    VARCHAR(255),
+    email       VARCHAR(255),
+    password    VARCHAR(255),
+    user_role   VARCHAR(255),
+    created_at  DATETIME(6),
+    modified_at DATETIME(6),
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE todos
+(
+    id            BIGINT       NOT NULL,
+    title         VARCHAR(255),
+    contents      VARCHAR(255),
+    weather       VARCHAR(255),
+    comment_count BIGINT       DEFAULT 0 NOT NULL,
+    manager_count BIGINT       DEFAULT 0 NOT NULL,
+    user_id       BIGINT       NOT NULL,
+    created_at    DATETIME(6),
+    modified_at   DATETIME(6),
+    CONSTRAINT pk_todos PRIMARY KEY (id),
+    CONSTRAINT fk_todos_user_id FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE comments
+(
+    id          BIGINT       NOT NULL,
+    contents    VARCHAR(255),
+    user_id     BIGINT       NOT NULL,
+    todo_id     BIGINT       NOT NULL,
+    created_at  DATETIME(6),
+    modified_at DATETIME(6),
+    CONSTRAINT pk_comments PRIMARY KEY (id),
+    CONSTRAINT fk_comments_user_id FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_comments_todo_id FOREIGN KEY (todo_id) REFERENCES todos (id)
+);
+
+CREATE TABLE managers
+(
+    id      BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    todo_id BIGINT NOT NULL,
+    CONSTRAINT pk_managers PRIMARY KEY (id),
+    CONSTRAINT fk_managers_user_id FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_managers_todo_id FOREIGN KEY (todo_id) REFERENCES todos (id)
+);
@@ -0,0 +1,12 @@
+-- Todo 목록: weather 조건 + 수정일 범위/정렬 (findByWeather, findByWeatherAndDateRange)
+CREATE INDEX idx_todos_weather_modified_at ON todos (weather, modified_at, id);
+
+-- Todo 목록: 수정일 범위/정렬 (findAllByOrderByModifiedAtDesc, findByDateRange, 커서 조회)
+CREATE INDEX idx_todos_modified_at_id ON todos (modified_at, id);
+
+-- Todo 검색: 생성일 범위/정렬 (searchTodos, searchTodosByCursor)
+CREATE INDEX idx_todos_created_at_id ON todos (created_at, id);
+
+-- 댓글/담당자 목록: todo_id 조건 + user 조인 (findByTodoIdWithUser)
+CREATE INDEX idx_comments_todo_id_user_id ON comments (todo_id, user_id);
+CREATE INDEX idx_managers_todo_id_user_id ON managers (todo_id, user_id);
@@ -0,0 +1,9 @@
+-- replica 지연 측정용 heartbeat (primary에 기록한 epoch millis를 replica에서 읽어 비교)
+CREATE TABLE replication_heartbeat
+(
+    id      INT    NOT NULL,
+    beat_at BIGINT NOT NULL,
+    CONSTRAINT pk_replication_heartbeat PRIMARY KEY (id)
+);
+
+INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, 0);
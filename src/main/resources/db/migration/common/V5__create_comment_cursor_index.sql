@@ -0,0 +1,2 @@
+-- 댓글 커서 조회/스트리밍: todo_id 조건 + (created_at, id) 오름차순
+CREATE INDEX idx_comments_todo_id_created_at_id ON comments (todo_id, created_at, id);
@@ -0,0 +1,5 @@
+-- 엔티티 id용 pooled 시퀀스 (allocationSize = 50)
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE todos_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE comments_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE managers_seq START WITH 1 INCREMENT BY 50;
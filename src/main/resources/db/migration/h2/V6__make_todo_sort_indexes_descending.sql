@@ -0,0 +1,7 @@
+-- 목록/검색은 항상 (modified_at, id) / (created_at, id) 내림차순으로 읽으므로 인덱스도 내림차순으로 다시 생성
+-- (H2는 오름차순 인덱스를 역방향으로 읽지 못해 조건 없는 첫 페이지에서 전체 스캔 후 정렬함)
+DROP INDEX idx_todos_modified_at_id;
+CREATE INDEX idx_todos_modified_at_id ON todos (modified_at DESC, id DESC);
+
+DROP INDEX idx_todos_created_at_id;
+CREATE INDEX idx_todos_created_at_id ON todos (created_at DESC, id DESC);
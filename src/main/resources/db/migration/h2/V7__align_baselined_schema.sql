@@ -0,0 +1,36 @@
+-- Flyway 도입 전(Hibernate DDL로 만든) 스키마를 V1로 baseline 한 경우 V1과 같은 형태로 맞춤
+-- (V1로 새로 만든 스키마는 이미 갖추고 있으므로 각 변경은 없을 때만 적용)
+
+-- 댓글 수/담당자 수 집계 컬럼
+ALTER TABLE todos ADD COLUMN IF NOT EXISTS comment_count BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE todos ADD COLUMN IF NOT EXISTS manager_count BIGINT DEFAULT 0 NOT NULL;
+
+-- 기존 행의 집계 컬럼을 실제 개수로 채움
+UPDATE todos SET
+    comment_count = (SELECT COUNT(*) FROM comments c WHERE c.todo_id = todos.id),
+    manager_count = (SELECT COUNT(*) FROM managers m WHERE m.todo_id = todos.id);
+
+-- 이메일 유니크 제약 이름을 uk_users_email로 맞춤 (회원가입의 이메일 중복 판단이 이 이름에 의존)
+-- - email 단일 컬럼 유니크 제약이 다른 이름(Hibernate 생성 이름)으로 있으면 이름만 변경하고, 없으면 추가
+EXECUTE IMMEDIATE COALESCE(
+    (SELECT 'ALTER TABLE users RENAME CONSTRAINT "' || tc.CONSTRAINT_NAME || '" TO uk_users_email'
+     FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS tc
+     WHERE tc.TABLE_SCHEMA = CURRENT_SCHEMA
+       AND UPPER(tc.TABLE_NAME) = 'USERS'
+       AND tc.CONSTRAINT_TYPE = 'UNIQUE'
+       AND UPPER(tc.CONSTRAINT_NAME) <> 'UK_USERS_EMAIL'
+       AND NOT EXISTS (SELECT 1
+                       FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS existing
+                       WHERE existing.TABLE_SCHEMA = CURRENT_SCHEMA
+                         AND UPPER(existing.CONSTRAINT_NAME) = 'UK_USERS_EMAIL')
+       AND (SELECT COUNT(*)
+            FROM INFORMATION_SCHEMA.KEY_COLUMN_USAGE k
+            WHERE k.CONSTRAINT_SCHEMA = tc.CONSTRAINT_SCHEMA
+              AND k.CONSTRAINT_NAME = tc.CONSTRAINT_NAME) = 1
+       AND EXISTS (SELECT 1
+                   FROM INFORMATION_SCHEMA.KEY_COLUMN_USAGE k
+                   WHERE k.CONSTRAINT_SCHEMA = tc.CONSTRAINT_SCHEMA
+                     AND k.CONSTRAINT_NAME = tc.CONSTRAINT_NAME
+                     AND UPPER(k.COLUMN_NAME) = 'EMAIL')
+     FETCH FIRST 1 ROW ONLY),
+    'ALTER TABLE users ADD CONSTRAINT IF NOT EXISTS uk_users_email UNIQUE (email)');
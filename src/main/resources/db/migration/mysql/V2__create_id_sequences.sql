@@ -0,0 +1,23 @@
+-- MySQL은 시퀀스가 없으므로 Hibernate 시퀀스 테이블 형식(next_val)으로 생성 (allocationSize = 50)
+-- 기존 스키마를 baseline으로 넘겨받은 경우를 위해
+-- - 이미 있는 시퀀스 테이블은 그대로 두고
+-- - 새로 만드는 경우 next_val을 MAX(id) + 50으로 두어 pooled optimizer가 기존 id 다음부터 할당하도록 함
+CREATE TABLE IF NOT EXISTS users_seq (next_val BIGINT);
+INSERT INTO users_seq (next_val)
+SELECT seed.next_val FROM (SELECT COALESCE(MAX(id), 0) + 50 AS next_val FROM users) seed
+WHERE NOT EXISTS (SELECT 1 FROM users_seq);
+
+CREATE TABLE IF NOT EXISTS todos_seq (next_val BIGINT);
+INSERT INTO todos_seq (next_val)
+SELECT seed.next_val FROM (SELECT COALESCE(MAX(id), 0) + 50 AS next_val FROM todos) seed
+WHERE NOT EXISTS (SELECT 1 FROM todos_seq);
+
+CREATE TABLE IF NOT EXISTS comments_seq (next_val BIGINT);
+INSERT INTO comments_seq (next_val)
+SELECT seed.next_val FROM (SELECT COALESCE(MAX(id), 0) + 50 AS next_val FROM comments) seed
+WHERE NOT EXISTS (SELECT 1 FROM comments_seq);
+
+CREATE TABLE IF NOT EXISTS managers_seq (next_val BIGINT);
+INSERT INTO managers_seq (next_val)
+SELECT seed.next_val FROM (SELECT COALESCE(MAX(id), 0) + 50 AS next_val FROM managers) seed
+WHERE NOT EXISTS (SELECT 1 FROM managers_seq);
@@ -0,0 +1,9 @@
+-- 목록/검색은 항상 (modified_at, id) / (created_at, id) 내림차순으로 읽으므로 인덱스도 내림차순으로 다시 생성
+-- (MySQL 8 내림차순 인덱스: 역방향 스캔 없이 인덱스 순서대로 읽음)
+ALTER TABLE todos
+    DROP INDEX idx_todos_modified_at_id,
+    ADD INDEX idx_todos_modified_at_id (modified_at DESC, id DESC);
+
+ALTER TABLE todos
+    DROP INDEX idx_todos_created_at_id,
+    ADD INDEX idx_todos_created_at_id (created_at DESC, id DESC);
@@ -0,0 +1,44 @@
+-- Flyway 도입 전(Hibernate DDL로 만든) 스키마를 V1로 baseline 한 경우 V1과 같은 형태로 맞춤
+-- (V1로 새로 만든 스키마는 이미 갖추고 있으므로 각 변경은 없을 때만 적용)
+-- MySQL은 ADD COLUMN IF NOT EXISTS를 지원하지 않으므로 information_schema를 확인해 실행할 DDL을 고름
+
+-- 댓글 수/담당자 수 집계 컬럼
+SET @ddl = IF(EXISTS(SELECT 1 FROM information_schema.columns
+                     WHERE table_schema = DATABASE() AND table_name = 'todos' AND column_name = 'comment_count'),
+              'DO 0',
+              'ALTER TABLE todos ADD COLUMN comment_count BIGINT DEFAULT 0 NOT NULL');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF(EXISTS(SELECT 1 FROM information_schema.columns
+                     WHERE table_schema = DATABASE() AND table_name = 'todos' AND column_name = 'manager_count'),
+              'DO 0',
+              'ALTER TABLE todos ADD COLUMN manager_count BIGINT DEFAULT 0 NOT NULL');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 기존 행의 집계 컬럼을 실제 개수로 채움
+UPDATE todos SET
+    comment_count = (SELECT COUNT(*) FROM comments c WHERE c.todo_id = todos.id),
+    manager_count = (SELECT COUNT(*) FROM managers m WHERE m.todo_id = todos.id);
+
+-- 이메일 유니크 제약 이름을 uk_users_email로 맞춤 (회원가입의 이메일 중복 판단이 이 이름에 의존)
+-- - email 단일 컬럼 유니크 인덱스가 다른 이름(Hibernate 생성 이름)으로 있으면 이름만 변경하고, 없으면 추가
+SET @old_uk = (SELECT s.index_name
+               FROM information_schema.statistics s
+               WHERE s.table_schema = DATABASE() AND s.table_name = 'users' AND s.non_unique = 0
+                 AND s.index_name NOT IN ('PRIMARY', 'uk_users_email')
+               GROUP BY s.index_name
+               HAVING COUNT(*) = 1 AND MAX(s.column_name) = 'email'
+               LIMIT 1);
+SET @ddl = CASE
+    WHEN EXISTS(SELECT 1 FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'users' AND index_name = 'uk_users_email') THEN 'DO 0'
+    WHEN @old_uk IS NOT NULL THEN CONCAT('ALTER TABLE users RENAME INDEX `', @old_uk, '` TO uk_users_email')
+    ELSE 'ALTER TABLE users ADD CONSTRAINT uk_users_email UNIQUE (email)'
+END;
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,112 @@
+package org.example.expert;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Flyway 도입 전 Hibernate DDL로 만든 스키마를 application.properties와 같은 설정(V1 baseline)으로 넘겨받는 경우
+ */
+class FlywayBaselineMigrationTest {
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:baseline-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    void Hibernate가_만든_스키마를_baseline으로_넘겨받으면_집계_컬럼을_추가하고_실제_개수로_채운다() {
+        // given: 집계 컬럼이 없던 시점의 스키마와 데이터
+        createHibernateSchema();
+        jdbcTemplate.update("INSERT INTO users (id, email) VALUES (1, 'a@example.com')");
+        jdbcTemplate.update("INSERT INTO todos (id, title, user_id) VALUES (1, 'first', 1), (2, 'second', 1)");
+        jdbcTemplate.update("INSERT INTO comments (id, contents, user_id, todo_id) VALUES (1, 'c1', 1, 1), (2, 'c2', 1, 1)");
+        jdbcTemplate.update("INSERT INTO managers (id, user_id, todo_id) VALUES (1, 1, 1), (2, 1, 2)");
+
+        // when
+        migrate();
+
+        // then
+        assertEquals(List.of(2L, 0L), jdbcTemplate.queryForList(
+                "SELECT comment_count FROM todos ORDER BY id", Long.class));
+        assertEquals(List.of(1L, 1L), jdbcTemplate.queryForList(
+                "SELECT manager_count FROM todos ORDER BY id", Long.class));
+    }
+
+    @Test
+    void Hibernate가_만든_이메일_유니크_제약은_uk_users_email로_이름을_바꾼다() {
+        // given
+        createHibernateSchema();
+
+        // when
+        migrate();
+
+        // then: 같은 이메일 유니크 제약이 중복되지 않고 이름만 바뀜
+        assertEquals(List.of("UK_USERS_EMAIL"), emailUniqueConstraints());
+    }
+
+    @Test
+    void 새_스키마는_V1부터_적용되어_같은_형태가_된다() {
+        // when
+        migrate();
+
+        // then
+        assertEquals(List.of("UK_USERS_EMAIL"), emailUniqueConstraints());
+        jdbcTemplate.update("INSERT INTO users (id, email) VALUES (1, 'a@example.com')");
+        jdbcTemplate.update("INSERT INTO todos (id, title, user_id) VALUES (1, 'first', 1)");
+        assertEquals(0L, jdbcTemplate.queryForObject("SELECT comment_count + manager_count FROM todos", Long.class));
+        assertTrue(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM \"flyway_schema_history\" WHERE \"version\" = '1' AND \"type\" = 'SQL'", Long.class) > 0);
+    }
+
+    private void migrate() {
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+    }
+
+    // Hibernate 6 DDL 생성 결과와 같은 형태 (집계 컬럼 없음, 유니크 제약은 생성된 이름)
+    private void createHibernateSchema() {
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT GENERATED BY DEFAULT AS IDENTITY, created_at TIMESTAMP(6), "
+                + "modified_at TIMESTAMP(6), email VARCHAR(255), nickname VARCHAR(255), password VARCHAR(255), "
+                + "user_role VARCHAR(255), PRIMARY KEY (id))");
+        jdbcTemplate.execute("ALTER TABLE users ADD CONSTRAINT UK6dotkott2kjsp8vw4d0m25fb7 UNIQUE (email)");
+        jdbcTemplate.execute("CREATE TABLE todos (id BIGINT GENERATED BY DEFAULT AS IDENTITY, created_at TIMESTAMP(6), "
+                + "modified_at TIMESTAMP(6), contents VARCHAR(255), title VARCHAR(255), weather VARCHAR(255), "
+                + "user_id BIGINT NOT NULL, PRIMARY KEY (id), FOREIGN KEY (user_id) REFERENCES users (id))");
+        jdbcTemplate.execute("CREATE TABLE comments (id BIGINT GENERATED BY DEFAULT AS IDENTITY, created_at TIMESTAMP(6), "
+                + "modified_at TIMESTAMP(6), contents VARCHAR(255), todo_id BIGINT NOT NULL, user_id BIGINT NOT NULL, "
+                + "PRIMARY KEY (id), FOREIGN KEY (todo_id) REFERENCES todos (id), FOREIGN KEY (user_id) REFERENCES users (id))");
+        jdbcTemplate.execute("CREATE TABLE managers (id BIGINT GENERATED BY DEFAULT AS IDENTITY, todo_id BIGINT NOT NULL, "
+                + "user_id BIGINT NOT NULL, PRIMARY KEY (id), FOREIGN KEY (todo_id) REFERENCES todos (id), "
+                + "FOREIGN KEY (user_id) REFERENCES users (id))");
+    }
+
+    private List<String> emailUniqueConstraints() {
+        return jdbcTemplate.queryForList(
+                "SELECT UPPER(tc.CONSTRAINT_NAME) FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS tc "
+                        + "JOIN INFORMATION_SCHEMA.KEY_COLUMN_USAGE k "
+                        + "ON k.CONSTRAINT_SCHEMA = tc.CONSTRAINT_SCHEMA AND k.CONSTRAINT_NAME = tc.CONSTRAINT_NAME "
+                        + "WHERE UPPER(tc.TABLE_NAME) = 'USERS' AND tc.CONSTRAINT_TYPE = 'UNIQUE' "
+                        + "AND UPPER(k.COLUMN_NAME) = 'EMAIL'",
+                String.class);
+    }
+}
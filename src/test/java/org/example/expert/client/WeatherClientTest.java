@@ -0,0 +1,244 @@
+package org.example.expert.client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.example.expert.config.WeatherClientConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class WeatherClientTest {
+
+    private static final String FALLBACK = "Unknown";
+    private static final LocalDate MAY_1 = LocalDate.of(2024, 5, 1);
+    private static final String WEATHER_JSON_SUNNY =
+            "[{\"date\":\"05-01\",\"weather\":\"Sunny\"},{\"date\":\"05-02\",\"weather\":\"Sunny\"}]";
+    private static final String WEATHER_JSON_RAINY =
+            "[{\"date\":\"05-01\",\"weather\":\"Rainy\"},{\"date\":\"05-02\",\"weather\":\"Rainy\"}]";
+
+    private HttpServer server;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile int responseStatus;
+    private volatile String responseBody;
+    private volatile CountDownLatch responseGate = new CountDownLatch(0);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // 날씨 API 대신 응답하는 로컬 스텁 서버
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/f-api/weather.json", exchange -> {
+            requestCount.incrementAndGet();
+            try {
+                responseGate.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = responseBody.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(responseStatus, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void 오늘_날씨를_조회하고_이후에는_캐시를_사용한다() {
+        // given
+        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("MM-dd"));
+        respond(200, "[{\"date\":\"" + today + "\",\"weather\":\"Sunny\"}]");
+        WeatherClient weatherClient = createClient(circuitBreaker());
+
+        // when
+        String first = weatherClient.getTodayWeather();
+        String second = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Sunny", first);
+        assertEquals("Sunny", second);
+        assertEquals(1, requestCount.get());
+    }
+
+    @Test
+    void 날씨_API가_계속_실패하면_서킷이_열리고_더_이상_호출하지_않는다() {
+        // given
+        respond(500, "{}");
+        CircuitBreaker circuitBreaker = circuitBreaker();
+        WeatherClient weatherClient = createClient(circuitBreaker);
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            assertEquals(FALLBACK, weatherClient.getTodayWeather());
+        }
+        int requestsUntilOpen = requestCount.get();
+
+        String weatherWhileOpen = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertEquals(4, requestsUntilOpen);
+        assertEquals(FALLBACK, weatherWhileOpen);
+        assertEquals(requestsUntilOpen, requestCount.get());
+    }
+
+    @Test
+    void 날짜가_바뀌어_캐시가_지나면_기존_값을_바로_반환하고_백그라운드에서_갱신한다() throws Exception {
+        // given: 5월 1일에 받아 둔 캐시
+        respond(200, WEATHER_JSON_SUNNY);
+        MutableClock clock = new MutableClock(MAY_1.atTime(12, 0));
+        WeatherClient weatherClient = createClient(circuitBreaker(), clock);
+        assertEquals("Sunny", weatherClient.getTodayWeather());
+
+        // when: 날짜가 바뀐 뒤, 갱신 응답이 지연되는 동안 조회
+        clock.set(MAY_1.plusDays(1).atTime(0, 1));
+        respond(200, WEATHER_JSON_RAINY);
+        responseGate = new CountDownLatch(1);
+        String whileRefreshing = weatherClient.getTodayWeather();
+
+        // then: 갱신을 기다리지 않고 지난 캐시의 값을 반환
+        assertEquals("Sunny", whileRefreshing);
+
+        // when: 갱신 응답이 도착
+        responseGate.countDown();
+
+        // then
+        assertEquals("Rainy", awaitWeather(weatherClient, "Rainy"));
+        assertEquals(2, requestCount.get());
+    }
+
+    @Test
+    void 백그라운드_갱신이_실패하면_기존_캐시를_계속_사용한다() throws Exception {
+        // given
+        respond(200, WEATHER_JSON_SUNNY);
+        MutableClock clock = new MutableClock(MAY_1.atTime(12, 0));
+        WeatherClient weatherClient = createClient(circuitBreaker(), clock);
+        assertEquals("Sunny", weatherClient.getTodayWeather());
+
+        // when: 날짜가 바뀐 뒤 갱신 요청이 실패
+        clock.set(MAY_1.plusDays(1).atTime(0, 1));
+        respond(500, "{}");
+        String whileRefreshing = weatherClient.getTodayWeather();
+        awaitRequests(2);
+
+        // then
+        assertEquals("Sunny", whileRefreshing);
+        assertEquals("Sunny", weatherClient.getTodayWeather());
+    }
+
+    @Test
+    void 자정_전_갱신은_다음_날_기준으로_받아_자정_이후에는_추가_호출_없이_사용한다() {
+        // given
+        respond(200, WEATHER_JSON_SUNNY);
+        MutableClock clock = new MutableClock(MAY_1.atTime(12, 0));
+        WeatherClient weatherClient = createClient(circuitBreaker(), clock);
+        assertEquals("Sunny", weatherClient.getTodayWeather());
+
+        // when: 23:50 예약 갱신 후 날짜가 바뀜
+        clock.set(MAY_1.atTime(23, 50));
+        respond(200, WEATHER_JSON_RAINY);
+        weatherClient.refreshBeforeMidnight();
+        clock.set(MAY_1.plusDays(1).atTime(0, 1));
+
+        // then: 갱신한 캐시를 바로 사용하고, 지난 캐시로 보지 않으므로 다시 호출하지 않음
+        assertEquals("Rainy", weatherClient.getTodayWeather());
+        assertEquals(2, requestCount.get());
+    }
+
+    private String awaitWeather(WeatherClient weatherClient, String expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        String weather = weatherClient.getTodayWeather();
+        while (!expected.equals(weather) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            weather = weatherClient.getTodayWeather();
+        }
+        return weather;
+    }
+
+    private void awaitRequests(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (requestCount.get() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(expected, requestCount.get());
+    }
+
+    private void respond(int status, String body) {
+        this.responseStatus = status;
+        this.responseBody = body;
+    }
+
+    private CircuitBreaker circuitBreaker() {
+        return CircuitBreaker.of("weather-test", WeatherClientConfig.weatherCircuitBreakerConfig(
+                50, 4, 4, Duration.ofMinutes(1)));
+    }
+
+    private WeatherClient createClient(CircuitBreaker circuitBreaker) {
+        return createClient(circuitBreaker, Clock.systemDefaultZone());
+    }
+
+    private WeatherClient createClient(CircuitBreaker circuitBreaker, Clock clock) {
+        return new WeatherClient(
+                new RestTemplate(),
+                circuitBreaker,
+                Bulkhead.ofDefaults("weather-test"),
+                "http://localhost:" + server.getAddress().getPort(),
+                FALLBACK,
+                clock
+        );
+    }
+
+    // 테스트에서 현재 시각을 옮길 수 있는 Clock
+    private static class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        MutableClock(LocalDateTime dateTime) {
+            set(dateTime);
+        }
+
+        void set(LocalDateTime dateTime) {
+            this.instant = dateTime.toInstant(ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
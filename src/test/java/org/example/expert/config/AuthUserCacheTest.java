@@ -0,0 +1,135 @@
+package org.example.expert.config;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserAdminService;
+import org.example.expert.domain.user.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AuthUserCacheTest {
+
+    private static final String PASSWORD = "Password1234";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AuthUserCache authUserCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserAdminService userAdminService;
+
+    @SpyBean
+    private JwtUtil jwtUtil;
+
+    @MockBean
+    private WeatherClient weatherClient;
+
+    private User user;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        String encodedPassword = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        user = userRepository.save(new User("cached", "cached-" + UUID.randomUUID() + "@example.com", encodedPassword, UserRole.USER));
+        String bearerToken = jwtUtil.createToken(user.getId(), user.getNickname(), user.getEmail(), user.getUserRole());
+        token = bearerToken.substring(JwtUtil.BEARER_PREFIX.length());
+    }
+
+    @Test
+    void 같은_토큰으로_다시_요청하면_사전_검사와_서명_검증을_건너뛴다() throws Exception {
+        // when
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/users/{userId}", user.getId()).header("Authorization", JwtUtil.BEARER_PREFIX + token))
+                    .andExpect(status().isOk());
+        }
+
+        // then: 캐시에 없을 때만 사전 검사 후 서명 검증을 거침
+        verify(jwtUtil, times(1)).precheck(any());
+        assertNotNull(authUserCache.get(token));
+    }
+
+    @Test
+    void 토큰이_만료되면_캐시에서도_제거된다() throws Exception {
+        // given
+        AuthUserCache cache = new AuthUserCache(100);
+        cache.put("expiring", authUser(user), new Date(System.currentTimeMillis() + 200));
+        cache.put("expired", authUser(user), new Date(System.currentTimeMillis() - 1000));
+        assertNotNull(cache.get("expiring"));
+
+        // when
+        Thread.sleep(400);
+
+        // then
+        assertNull(cache.get("expiring"));
+        assertNull(cache.get("expired"));
+    }
+
+    @Test
+    void 권한을_변경하면_그_사용자의_캐시된_토큰만_제거된다() {
+        // given
+        AuthUser other = new AuthUser(Long.MAX_VALUE, "other", "other@example.com", UserRole.USER);
+        authUserCache.put(token, authUser(user), inOneHour());
+        authUserCache.put("other-token", other, inOneHour());
+
+        // when
+        userAdminService.changeUserRole(user.getId(), new UserRoleChangeRequest("ADMIN"));
+
+        // then
+        assertNull(authUserCache.get(token));
+        assertEquals(other.getId(), authUserCache.get("other-token").getId());
+    }
+
+    @Test
+    void 비밀번호를_변경하면_그_사용자의_캐시된_토큰이_제거된다() {
+        // given
+        authUserCache.put(token, authUser(user), inOneHour());
+
+        // when
+        userService.changePassword(user.getId(), new UserChangePasswordRequest(PASSWORD, "NewPassword1234"));
+
+        // then
+        assertNull(authUserCache.get(token));
+    }
+
+    private static AuthUser authUser(User user) {
+        return new AuthUser(user.getId(), user.getNickname(), user.getEmail(), user.getUserRole());
+    }
+
+    private static Date inOneHour() {
+        return new Date(System.currentTimeMillis() + 60 * 60 * 1000L);
+    }
+}
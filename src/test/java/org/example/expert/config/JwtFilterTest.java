@@ -0,0 +1,105 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class JwtFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockBean
+    private WeatherClient weatherClient;
+
+    @Test
+    void 형식이_틀린_토큰은_401로_거절하고_사유별로_집계한다() throws Exception {
+        // given
+        double before = rejectedCount(JwtRejectReason.MALFORMED);
+
+        // when & then
+        mockMvc.perform(get("/todos").header("Authorization", "Bearer not-a-jwt"))
+                .andExpect(status().isUnauthorized());
+        assertEquals(before + 1, rejectedCount(JwtRejectReason.MALFORMED));
+    }
+
+    @Test
+    void 최대_길이를_넘는_토큰은_401로_거절하고_형식_오류로_집계한다() throws Exception {
+        // given
+        double before = rejectedCount(JwtRejectReason.MALFORMED);
+        String oversized = "header." + "a".repeat(5000) + ".signature";
+
+        // when & then
+        mockMvc.perform(get("/todos").header("Authorization", "Bearer " + oversized))
+                .andExpect(status().isUnauthorized());
+        assertEquals(before + 1, rejectedCount(JwtRejectReason.MALFORMED));
+    }
+
+    @Test
+    void 만료된_토큰은_401로_거절하고_만료로_집계한다() throws Exception {
+        // given
+        double before = rejectedCount(JwtRejectReason.EXPIRED);
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        long expiredAt = System.currentTimeMillis() / 1000 - 60;
+        String expired = encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8))
+                + "." + encoder.encodeToString(("{\"sub\":\"1\",\"exp\":" + expiredAt + "}").getBytes(StandardCharsets.UTF_8))
+                + ".signature";
+
+        // when & then
+        mockMvc.perform(get("/todos").header("Authorization", "Bearer " + expired))
+                .andExpect(status().isUnauthorized());
+        assertEquals(before + 1, rejectedCount(JwtRejectReason.EXPIRED));
+    }
+
+    @Test
+    void 서명이_틀린_토큰은_401로_거절하고_서명_오류로_집계한다() throws Exception {
+        // given
+        double before = rejectedCount(JwtRejectReason.INVALID_SIGNATURE);
+        String token = jwtUtil.createToken(1L, "nickname", "email@example.com", UserRole.USER);
+        String tampered = token.substring(0, token.lastIndexOf('.') + 1) + "invalidsignature";
+
+        // when & then
+        mockMvc.perform(get("/todos").header("Authorization", tampered))
+                .andExpect(status().isUnauthorized());
+        assertEquals(before + 1, rejectedCount(JwtRejectReason.INVALID_SIGNATURE));
+    }
+
+    @Test
+    void 토큰_없이_Bearer만_있으면_헤더_오류로_집계한다() throws Exception {
+        // given
+        double before = rejectedCount(JwtRejectReason.INVALID_HEADER);
+
+        // when & then
+        mockMvc.perform(get("/todos").header("Authorization", "Bearer    "))
+                .andExpect(status().isUnauthorized());
+        assertEquals(before + 1, rejectedCount(JwtRejectReason.INVALID_HEADER));
+    }
+
+    private double rejectedCount(JwtRejectReason reason) {
+        return meterRegistry.get("auth.jwt.rejected")
+                .tag("reason", reason.name().toLowerCase())
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class JwtUtilTest {
+
+    private static final String SECRET_KEY = "ZXhwZXJ0LXRlc3Qtc2VjcmV0LWtleS1mb3Itand0LWhtYWMtc2hhMjU2LXNpZ25pbmc=";
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET_KEY);
+        jwtUtil.init();
+    }
+
+    @Test
+    void 정상_토큰은_사전_검사를_통과한다() {
+        // given
+        String jwt = jwtUtil.createToken(1L, "nickname", "email@example.com", UserRole.USER)
+                .substring(JwtUtil.BEARER_PREFIX.length());
+
+        // when & then
+        assertNull(jwtUtil.precheck(jwt));
+    }
+
+    @Test
+    void 세_부분으로_나뉘지_않은_토큰은_형식_오류로_거절한다() {
+        // when & then
+        assertEquals(JwtRejectReason.MALFORMED, jwtUtil.precheck("not-a-jwt"));
+        assertEquals(JwtRejectReason.MALFORMED, jwtUtil.precheck("header.payload"));
+        assertEquals(JwtRejectReason.MALFORMED, jwtUtil.precheck(".payload.signature"));
+        assertEquals(JwtRejectReason.MALFORMED, jwtUtil.precheck("header..signature"));
+        assertEquals(JwtRejectReason.MALFORMED, jwtUtil.precheck("header.payload."));
+        assertEquals(JwtRejectReason.MALFORMED, jwtUtil.precheck("header.payload.signature.extra"));
+    }
+
+    @Test
+    void payload가_base64_JSON_객체가_아니면_형식_오류로_거절한다() {
+        // when & then
+        assertEquals(JwtRejectReason.MALFORMED, jwtUtil.precheck("header.!!!.signature"));
+        assertEquals(JwtRejectReason.MALFORMED, jwtUtil.precheck(token("[1, 2]")));
+        assertEquals(JwtRejectReason.MALFORMED, jwtUtil.precheck(token("{\"exp\": ")));
+    }
+
+    @Test
+    void 최대_길이를_넘는_토큰은_파싱하지_않고_형식_오류로_거절한다() {
+        // given
+        String oversized = token("{\"sub\": \"" + "a".repeat(5000) + "\"}");
+
+        // when & then
+        assertEquals(JwtRejectReason.MALFORMED, jwtUtil.precheck(oversized));
+    }
+
+    @Test
+    void 만료된_토큰은_서명_검증_전에_만료로_거절한다() {
+        // given
+        long expiredAt = System.currentTimeMillis() / 1000 - 60;
+
+        // when & then
+        assertEquals(JwtRejectReason.EXPIRED, jwtUtil.precheck(token("{\"sub\": \"1\", \"exp\": " + expiredAt + "}")));
+    }
+
+    @Test
+    void exp가_없거나_아직_유효하면_서명_검증으로_넘긴다() {
+        // given
+        long expiresAt = System.currentTimeMillis() / 1000 + 60;
+
+        // when & then
+        assertNull(jwtUtil.precheck(token("{\"sub\": \"1\"}")));
+        assertNull(jwtUtil.precheck(token("{\"nested\": {\"exp\": 1}, \"exp\": " + expiresAt + "}")));
+    }
+
+    // 서명은 검사하지 않으므로 임의 값으로 header.payload.signature 형식만 맞춤
+    private static String token(String payloadJson) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8))
+                + "." + encoder.encodeToString(payloadJson.getBytes(StandardCharsets.UTF_8))
+                + ".signature";
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 두 개의 H2 인메모리 DB를 primary/replica로 두고, 트랜잭션마다 어느 DB로 라우팅되는지 SELECT DATABASE()로 확인
+ */
+@SpringBootTest(properties = {
+        "datasource.replica.enabled=true",
+        "spring.jpa.open-in-view=false",
+        "datasource.replica.lag-check-enabled=false",
+        "datasource.primary.jdbc-url=jdbc:h2:mem:primary;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "datasource.primary.driver-class-name=org.h2.Driver",
+        "datasource.primary.username=sa",
+        "datasource.replica.jdbc-url=jdbc:h2:mem:replica;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "datasource.replica.driver-class-name=org.h2.Driver",
+        "datasource.replica.username=sa"
+})
+class ReadWriteRoutingDataSourceTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션은_replica로_쓰기_트랜잭션은_primary로_라우팅된다() {
+        // when
+        String readDatabase = currentDatabase(true);
+        String writeDatabase = currentDatabase(false);
+
+        // then
+        assertEquals("REPLICA", readDatabase);
+        assertEquals("PRIMARY", writeDatabase);
+    }
+
+    @Test
+    void 쓰기를_커밋한_사용자의_이후_읽기는_primary로_라우팅된다() {
+        // given
+        AuthUser writer = new AuthUser(1L, "writer", "writer@example.com", UserRole.USER);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(writer, null, List.of()));
+        assertEquals("REPLICA", currentDatabase(true));
+
+        // when
+        currentDatabase(false);
+        String readAfterWrite = currentDatabase(true);
+
+        // then
+        assertEquals("PRIMARY", readAfterWrite);
+    }
+
+    private String currentDatabase(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+    }
+}
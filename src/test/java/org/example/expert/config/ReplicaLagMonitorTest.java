@@ -0,0 +1,119 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 두 개의 H2 인메모리 DB를 primary/replica로 두고, replica의 heartbeat를 직접 앞당기거나 멈춰 지연을 흉내냄
+ */
+class ReplicaLagMonitorTest {
+
+    private static final long MAX_LAG_MILLIS = 3000;
+
+    private DataSource primaryDataSource;
+    private DataSource replicaDataSource;
+    private JdbcTemplate replicaJdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        primaryDataSource = heartbeatDatabase();
+        replicaDataSource = heartbeatDatabase();
+        replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+    }
+
+    @Test
+    void 첫_확인_전에는_replica를_사용하지_않는다() {
+        // when & then
+        assertFalse(newMonitor(replicaDataSource).isReplicaAvailable());
+    }
+
+    @Test
+    void replica_heartbeat가_max_lag_이내면_replica를_사용한다() {
+        // given
+        ReplicaLagMonitor monitor = newMonitor(replicaDataSource);
+        replicaHeartbeat(System.currentTimeMillis());
+
+        // when
+        monitor.check();
+
+        // then
+        assertTrue(monitor.isReplicaAvailable());
+    }
+
+    @Test
+    void replica_heartbeat가_멈춰_max_lag을_넘으면_primary로_전환하고_따라잡으면_복귀한다() {
+        // given
+        ReplicaLagMonitor monitor = newMonitor(replicaDataSource);
+        replicaHeartbeat(System.currentTimeMillis());
+        monitor.check();
+
+        // when: 복제가 멈춘 상태
+        replicaHeartbeat(System.currentTimeMillis() - MAX_LAG_MILLIS - 1000);
+        monitor.check();
+
+        // then
+        assertFalse(monitor.isReplicaAvailable());
+
+        // when: 복제가 따라잡음
+        replicaHeartbeat(System.currentTimeMillis());
+        monitor.check();
+
+        // then
+        assertTrue(monitor.isReplicaAvailable());
+    }
+
+    @Test
+    void replica_조회에_실패하면_primary로_전환한다() {
+        // given
+        ReplicaLagMonitor monitor = newMonitor(replicaDataSource);
+        replicaHeartbeat(System.currentTimeMillis());
+        monitor.check();
+
+        // when
+        replicaJdbcTemplate.execute("DROP TABLE replication_heartbeat");
+        monitor.check();
+
+        // then
+        assertFalse(monitor.isReplicaAvailable());
+    }
+
+    @Test
+    void 지연_확인이_꺼져_있으면_replica를_항상_사용한다() {
+        // given
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(
+                primaryDataSource, replicaDataSource, MAX_LAG_MILLIS, false, new SimpleMeterRegistry());
+        replicaJdbcTemplate.execute("DROP TABLE replication_heartbeat");
+
+        // when
+        monitor.check();
+
+        // then
+        assertTrue(monitor.isReplicaAvailable());
+    }
+
+    private ReplicaLagMonitor newMonitor(DataSource replica) {
+        return new ReplicaLagMonitor(primaryDataSource, replica, MAX_LAG_MILLIS, true, new SimpleMeterRegistry());
+    }
+
+    private void replicaHeartbeat(long beatAt) {
+        replicaJdbcTemplate.update("UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1", beatAt);
+    }
+
+    private static DataSource heartbeatDatabase() {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE replication_heartbeat (id INT NOT NULL PRIMARY KEY, beat_at BIGINT NOT NULL)");
+        jdbcTemplate.update("INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, 0)");
+        return dataSource;
+    }
+}
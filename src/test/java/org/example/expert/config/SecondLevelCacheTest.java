@@ -0,0 +1,99 @@
+package org.example.expert.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.dto.request.UserRoleChangeRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.domain.user.service.UserAdminService;
+import org.example.expert.domain.user.service.UserService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 캐시 hit 여부를 확인하기 위해 이 테스트에서만 Hibernate 통계를 켬
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class SecondLevelCacheTest {
+
+    private static final String PASSWORD = "Password1234";
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserAdminService userAdminService;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        String encodedPassword = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        user = userRepository.save(new User("cached", "cached-" + UUID.randomUUID() + "@example.com", encodedPassword, UserRole.USER));
+        entityManagerFactory.getCache().evict(User.class, user.getId());
+        statistics.clear();
+    }
+
+    @Test
+    void 이메일로_다시_조회하면_natural_id_캐시와_엔티티_캐시에서_읽는다() {
+        // given
+        userRepository.findByEmailNaturalId(user.getEmail()).orElseThrow();
+        long entityLoads = statistics.getEntityLoadCount();
+
+        // when
+        userRepository.findByEmailNaturalId(user.getEmail()).orElseThrow();
+
+        // then: 두 번째 조회는 DB 조회 없이 캐시에서 해결
+        assertTrue(statistics.getNaturalIdCacheHitCount() > 0);
+        assertTrue(statistics.getEntityStatistics(User.class.getName()).getCacheHitCount() > 0);
+        assertEquals(entityLoads, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void 비밀번호를_변경하면_캐시된_User를_제거한다() {
+        // given
+        cacheUser();
+
+        // when
+        userService.changePassword(user.getId(), new UserChangePasswordRequest(PASSWORD, "NewPassword1234"));
+
+        // then
+        assertFalse(entityManagerFactory.getCache().contains(User.class, user.getId()));
+    }
+
+    @Test
+    void 권한을_변경하면_캐시된_User를_제거하고_다음_조회는_변경된_권한을_읽는다() {
+        // given
+        cacheUser();
+
+        // when
+        userAdminService.changeUserRole(user.getId(), new UserRoleChangeRequest("ADMIN"));
+
+        // then
+        assertFalse(entityManagerFactory.getCache().contains(User.class, user.getId()));
+        assertEquals(UserRole.ADMIN, userRepository.findById(user.getId()).orElseThrow().getUserRole());
+    }
+
+    private void cacheUser() {
+        userRepository.findById(user.getId()).orElseThrow();
+        assertTrue(entityManagerFactory.getCache().contains(User.class, user.getId()));
+    }
+}
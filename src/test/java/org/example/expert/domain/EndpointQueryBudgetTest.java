@@ -0,0 +1,152 @@
+package org.example.expert.domain;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.example.expert.support.SqlStatementCounter;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 엔드포인트별 SQL 실행 횟수 예산 검사
+ * - 목록 크기와 무관하게 쿼리 수가 고정돼야 하므로, 예산을 넘으면 N+1이 생긴 것으로 판단
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-budget;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=org.example.expert.support.SqlStatementCounter"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndpointQueryBudgetTest {
+
+    private static final int TODO_COUNT = 20;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @MockBean
+    private WeatherClient weatherClient;
+
+    private User owner;
+    private Long todoId;
+    private String bearerToken;
+
+    @BeforeAll
+    void setUp() {
+        owner = userRepository.save(new User("owner", "owner@example.com", "password", UserRole.USER));
+        User other = userRepository.save(new User("other", "other@example.com", "password", UserRole.USER));
+
+        List<Todo> todos = new ArrayList<>();
+        for (int i = 0; i < TODO_COUNT; i++) {
+            todos.add(new Todo("title" + i, "contents" + i, "Sunny", owner));
+        }
+        todos = todoRepository.saveAll(todos);
+
+        List<Comment> comments = new ArrayList<>();
+        List<Manager> managers = new ArrayList<>();
+        for (Todo todo : todos) {
+            for (int i = 0; i < 3; i++) {
+                comments.add(new Comment("comment" + i, other, todo));
+            }
+            managers.add(new Manager(other, todo));
+        }
+        commentRepository.saveAll(comments);
+        managerRepository.saveAll(managers);
+
+        todoId = todos.get(0).getId();
+        bearerToken = jwtUtil.createToken(owner.getId(), owner.getNickname(), owner.getEmail(), owner.getUserRole());
+    }
+
+    // resultPath: 응답에서 비어 있지 않아야 하는 위치 (빈 결과로 예산을 통과하는 경우를 막음)
+    @ParameterizedTest(name = "{0} <= {1}")
+    @CsvSource({
+            "/todos?page=1&size=10, 2, $.content",
+            "/todos?weather=Sunny, 2, $.content",
+            "/todos?startDate=2000-01-01&endDate=2999-12-31, 2, $.content",
+            "/todos/slice?size=10, 1, $.content",
+            "/todos/slice?weather=Sunny, 1, $.content",
+            "/todos/cursor?size=10, 1, $.content",
+            "/todos/cursor?weather=Sunny, 1, $.content",
+            "/todos/search?keyword=title, 1, $",
+            "/todos/search?nickname=own, 1, $",
+            "/todos/search/cursor?keyword=title, 1, $.content",
+            "/todos/search/cursor?nickname=own, 2, $.content",
+            "/todos/{todoId}, 1, $.id",
+            "/todos/{todoId}/comments, 1, $",
+            "/todos/{todoId}/comments/cursor?size=2, 1, $.content",
+            "/todos/{todoId}/managers, 2, $",
+            "/users/{userId}, 1, $.id"
+    })
+    void 엔드포인트별_SQL_실행_횟수가_예산을_넘지_않는다(String uri, int budget, String resultPath) throws Exception {
+        // given
+        String resolvedUri = uri
+                .replace("{todoId}", String.valueOf(todoId))
+                .replace("{userId}", String.valueOf(owner.getId()));
+        SqlStatementCounter.reset();
+
+        // when
+        mockMvc.perform(get(resolvedUri).header("Authorization", bearerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(resultPath).isNotEmpty());
+
+        // then
+        int count = SqlStatementCounter.count();
+        assertTrue(count <= budget, resolvedUri + " 에서 SQL " + count + "건 실행 (예산 " + budget + "건)");
+    }
+
+    @Test
+    void 상세_조회는_작업_스레드의_SQL까지_합쳐도_예산을_넘지_않는다() throws Exception {
+        // given: Todo(+작성자) 1건, 댓글 첫 페이지(+작성자) 1건, 담당자(+사용자) 1건
+        int budget = 3;
+        SqlStatementCounter.reset();
+
+        // when
+        mockMvc.perform(get("/todos/{todoId}/detail", todoId).header("Authorization", bearerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments.content.length()").value(3))
+                .andExpect(jsonPath("$.managers.length()").value(2));
+
+        // then
+        int count = SqlStatementCounter.count("todo-detail-");
+        assertTrue(count <= budget, "/todos/{todoId}/detail 에서 SQL " + count + "건 실행 (예산 " + budget + "건)");
+    }
+}
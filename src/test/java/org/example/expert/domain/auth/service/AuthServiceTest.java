@@ -0,0 +1,128 @@
+package org.example.expert.domain.auth.service;
+
+import org.example.expert.config.PasswordHasher;
+import org.example.expert.domain.auth.dto.request.SigninRequest;
+import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@SpringBootTest
+class AuthServiceTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @SpyBean
+    private PasswordHasher passwordHasher;
+
+    @Test
+    void 같은_이메일로_동시에_회원가입하면_한_건만_성공한다() throws Exception {
+        // given
+        int threadCount = 8;
+        String email = "concurrent@example.com";
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger duplicateCount = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            int index = i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    authService.signup(new SignupRequest("nickname" + index, email, "Password1234", "USER"));
+                    successCount.incrementAndGet();
+                } catch (InvalidRequestException e) {
+                    duplicateCount.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertEquals(1, successCount.get());
+        assertEquals(threadCount - 1, duplicateCount.get());
+        assertTrue(userRepository.findByEmail(email).isPresent());
+    }
+
+    @Test
+    void 로그인_시_비밀번호_검증과_재해시는_트랜잭션_밖에서_수행하고_갱신된_해시를_저장한다() {
+        // given: 현재 설정보다 약한(접두사 없는 cost 4) 해시로 저장된 사용자
+        String legacyPassword = new BCryptPasswordEncoder(4).encode("Password1234");
+        User user = userRepository.save(new User("legacy", "legacy@example.com", legacyPassword, UserRole.USER));
+
+        List<Boolean> transactionActive = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return invocation.callRealMethod();
+        }).when(passwordHasher).matches(any(), any());
+        doAnswer(invocation -> {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return invocation.callRealMethod();
+        }).when(passwordHasher).encode(any());
+
+        // when
+        authService.signin(new SigninRequest("legacy@example.com", "Password1234"));
+
+        // then
+        assertEquals(List.of(false, false), transactionActive);
+        String storedPassword = userRepository.findById(user.getId()).orElseThrow().getPassword();
+        assertNotEquals(legacyPassword, storedPassword);
+        assertTrue(passwordHasher.matches("Password1234", storedPassword));
+        assertFalse(passwordHasher.upgradeEncoding(storedPassword));
+    }
+
+    @Test
+    void 재해시_중에_비밀번호가_변경되면_재해시_결과로_덮어쓰지_않는다() {
+        // given
+        String legacyPassword = new BCryptPasswordEncoder(4).encode("Password1234");
+        User user = userRepository.save(new User("raced", "raced@example.com", legacyPassword, UserRole.USER));
+        String changedPassword = new BCryptPasswordEncoder(4).encode("Changed1234");
+
+        // 재해시하는 동안 다른 요청이 비밀번호를 바꾼 상황
+        doAnswer(invocation -> {
+            Object upgraded = invocation.callRealMethod();
+            userRepository.findById(user.getId()).ifPresent(current -> {
+                current.changePassword(changedPassword);
+                userRepository.saveAndFlush(current);
+            });
+            return upgraded;
+        }).when(passwordHasher).encode(any());
+
+        // when
+        authService.signin(new SigninRequest("raced@example.com", "Password1234"));
+
+        // then
+        assertEquals(changedPassword, userRepository.findById(user.getId()).orElseThrow().getPassword());
+    }
+}
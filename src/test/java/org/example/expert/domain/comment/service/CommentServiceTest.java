@@ -0,0 +1,238 @@
+package org.example.expert.domain.comment.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.comment.dto.request.CommentBatchSaveRequest;
+import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+// 페이지 경계를 적은 데이터로 확인하기 위해 스트리밍 페이지 크기를 줄임
+@SpringBootTest(properties = "comment.stream.page-size=2")
+@AutoConfigureMockMvc
+class CommentServiceTest {
+
+    private static final int COMMENT_COUNT = 5;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @SpyBean
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @MockBean
+    private WeatherClient weatherClient;
+
+    private User user;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString();
+        user = userRepository.save(new User("commenter", "commenter-" + suffix + "@example.com", "password", UserRole.USER));
+        todo = todoRepository.save(new Todo("title", "contents", "Sunny", user));
+    }
+
+    @Test
+    void 존재하지_않는_일정에_댓글을_등록하면_404_예외가_발생한다() {
+        // given
+        AuthUser authUser = new AuthUser(user.getId(), user.getNickname(), user.getEmail(), user.getUserRole());
+
+        // when & then
+        assertThrows(InvalidRequestException.class,
+                () -> commentService.saveComment(authUser, Long.MAX_VALUE, new CommentSaveRequest("contents")));
+    }
+
+    @Test
+    void 일정_외의_제약_위반은_일정_없음으로_바꾸지_않고_그대로_전파한다() {
+        // given: 존재하지 않는 사용자 (users FK 위반)
+        AuthUser unknownUser = new AuthUser(Long.MAX_VALUE, "unknown", "unknown@example.com", UserRole.USER);
+
+        // when & then
+        assertThrows(DataIntegrityViolationException.class,
+                () -> commentService.saveComment(unknownUser, todo.getId(), new CommentSaveRequest("contents")));
+    }
+
+    @Test
+    void 댓글을_등록하면_Todo의_댓글_수가_등록한_개수만큼_늘어난다() {
+        // given
+        AuthUser authUser = new AuthUser(user.getId(), user.getNickname(), user.getEmail(), user.getUserRole());
+
+        // when
+        commentService.saveComment(authUser, todo.getId(), new CommentSaveRequest("first"));
+        commentService.saveComments(authUser, todo.getId(), new CommentBatchSaveRequest(List.of(
+                new CommentSaveRequest("second"), new CommentSaveRequest("third"))));
+
+        // then
+        assertEquals(3L, todoRepository.findById(todo.getId()).orElseThrow().getCommentCount());
+    }
+
+    @Test
+    void 커서로_끝까지_조회하면_작성일이_같은_댓글도_id_순으로_빠짐없이_조회된다() {
+        // given
+        List<Long> commentIds = saveCommentsWithSameCreatedAt();
+
+        // when
+        List<Long> fetchedIds = new ArrayList<>();
+        int pages = 0;
+        String cursor = null;
+        CursorResponse<CommentResponse> response;
+        do {
+            response = commentService.getCommentsByCursor(todo.getId(), cursor, 2);
+            response.getContent().forEach(comment -> fetchedIds.add(comment.getId()));
+            cursor = response.getNextCursor();
+            pages++;
+        } while (response.isHasNext());
+
+        // then
+        assertEquals(commentIds, fetchedIds);
+        assertEquals(3, pages);
+    }
+
+    @Test
+    void 유효하지_않은_커서로_조회하면_예외가_발생한다() {
+        // when & then
+        assertThrows(InvalidRequestException.class,
+                () -> commentService.getCommentsByCursor(todo.getId(), "invalid-cursor!", 2));
+    }
+
+    @Test
+    void 커서_조회_개수가_상한을_넘으면_예외가_발생한다() {
+        // when & then
+        assertThrows(InvalidRequestException.class,
+                () -> commentService.getCommentsByCursor(todo.getId(), null, Cursor.MAX_SIZE + 1));
+        assertThrows(InvalidRequestException.class,
+                () -> commentService.getCommentsByCursor(todo.getId(), null, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void 스트리밍은_페이지_경계를_넘어도_모든_댓글을_순서대로_출력한다() throws Exception {
+        // given
+        List<Long> commentIds = saveCommentsWithSameCreatedAt();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        commentService.streamComments(todo.getId(), outputStream);
+
+        // then
+        assertEquals(commentIds, idsOf(outputStream.toString(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void 스트리밍_도중_조회가_실패하면_배열을_닫지_않고_예외를_전파한다() {
+        // given
+        saveCommentsWithSameCreatedAt();
+        doThrow(new DataAccessResourceFailureException("connection lost"))
+                .when(commentRepository).findPageAfterByTodoIdWithUser(any(), any(), any(), any());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        assertThrows(DataAccessResourceFailureException.class,
+                () -> commentService.streamComments(todo.getId(), outputStream));
+
+        // then: 첫 페이지까지만 쓰고 닫는 ']' 없이 끝나야 클라이언트가 잘린 응답을 성공으로 보지 않음
+        String body = outputStream.toString(StandardCharsets.UTF_8);
+        assertTrue(body.startsWith("["));
+        assertFalse(body.endsWith("]"));
+    }
+
+    @Test
+    void 댓글_스트리밍_API는_전체_댓글을_JSON_배열로_응답한다() throws Exception {
+        // given
+        List<Long> commentIds = saveCommentsWithSameCreatedAt();
+        String bearerToken = jwtUtil.createToken(user.getId(), user.getNickname(), user.getEmail(), user.getUserRole());
+
+        // when
+        MvcResult result = mockMvc.perform(get("/todos/{todoId}/comments/stream", todo.getId())
+                        .header("Authorization", bearerToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult();
+
+        // then
+        assertEquals(200, result.getResponse().getStatus());
+        assertEquals(commentIds, idsOf(result.getResponse().getContentAsString(StandardCharsets.UTF_8)));
+    }
+
+    // 같은 작성일을 가진 댓글을 저장하고 id 오름차순 목록을 반환
+    private List<Long> saveCommentsWithSameCreatedAt() {
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            comments.add(new Comment("comment" + i, user, todo));
+        }
+        List<Long> commentIds = commentRepository.saveAll(comments).stream()
+                .map(Comment::getId)
+                .sorted()
+                .toList();
+        jdbcTemplate.update("UPDATE comments SET created_at = ? WHERE todo_id = ?",
+                Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 0, 0)), todo.getId());
+        return commentIds;
+    }
+
+    private List<Long> idsOf(String json) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (JsonNode node : objectMapper.readTree(json)) {
+            ids.add(node.get("id").asLong());
+        }
+        return ids;
+    }
+}
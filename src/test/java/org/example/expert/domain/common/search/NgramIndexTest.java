@@ -0,0 +1,97 @@
+package org.example.expert.domain.common.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NgramIndexTest {
+
+    @Test
+    void 대소문자를_구분하지_않고_부분_일치로_검색한다() {
+        // given
+        NgramIndex index = new NgramIndex();
+        index.put(1L, "Spring Plus");
+        index.put(2L, "spring boot");
+        index.put(3L, "Java");
+
+        // when
+        Set<Long> result = index.search("SPRING");
+
+        // then
+        assertEquals(Set.of(1L, 2L), result);
+    }
+
+    @Test
+    void 한_글자_검색어는_unigram으로_찾는다() {
+        // given
+        NgramIndex index = new NgramIndex();
+        index.put(1L, "할일");
+        index.put(2L, "일정");
+        index.put(3L, "메모");
+
+        // when
+        Set<Long> result = index.search("일");
+
+        // then
+        assertEquals(Set.of(1L, 2L), result);
+    }
+
+    @Test
+    void bigram이_모두_있어도_원문에_연속으로_포함되지_않으면_제외한다() {
+        // given
+        NgramIndex index = new NgramIndex();
+        index.put(1L, "abxba");  // bigram ab, ba를 모두 가지지만 "aba"는 포함하지 않음
+        index.put(2L, "xabay");
+
+        // when
+        Set<Long> result = index.search("aba");
+
+        // then
+        assertEquals(Set.of(2L), result);
+    }
+
+    @Test
+    void 검색어의_bigram이_하나라도_없으면_빈_결과를_반환한다() {
+        // given
+        NgramIndex index = new NgramIndex();
+        index.put(1L, "title");
+
+        // when
+        Set<Long> result = index.search("tiz");
+
+        // then
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void 같은_id로_다시_저장하면_이전_문자열로는_검색되지_않는다() {
+        // given
+        NgramIndex index = new NgramIndex();
+        index.put(1L, "before");
+
+        // when
+        index.put(1L, "after");
+
+        // then
+        assertTrue(index.search("before").isEmpty());
+        assertEquals(Set.of(1L), index.search("after"));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void null로_저장하면_문서가_제거된다() {
+        // given
+        NgramIndex index = new NgramIndex();
+        index.put(1L, "title");
+
+        // when
+        index.put(1L, null);
+
+        // then
+        assertTrue(index.search("title").isEmpty());
+        assertEquals(0, index.size());
+    }
+}
@@ -0,0 +1,178 @@
+package org.example.expert.domain.manager.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// 실패 경로에서 엔티티를 로딩하지 않는지 확인하기 위해 Hibernate 통계를 켬
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ManagerServiceTest {
+
+    @Autowired
+    private ManagerService managerService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private WeatherClient weatherClient;
+
+    private User owner;
+    private User managerUser;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        owner = saveUser("owner");
+        managerUser = saveUser("manager");
+        todo = todoRepository.save(new Todo("title", "contents", "Sunny", owner));
+    }
+
+    @Test
+    void 담당자를_등록하면_Todo의_담당자_수가_늘어난다() {
+        // given: 작성자는 생성 시 담당자로 등록되어 있음
+        assertEquals(1L, managerCount());
+
+        // when
+        managerService.saveManager(authUser(owner), todo.getId(), new ManagerSaveRequest(managerUser.getId()));
+
+        // then
+        assertEquals(2L, managerCount());
+    }
+
+    @Test
+    void 담당자를_삭제하면_Todo의_담당자_수가_줄어든다() {
+        // given
+        ManagerSaveResponse saved = managerService.saveManager(
+                authUser(owner), todo.getId(), new ManagerSaveRequest(managerUser.getId()));
+
+        // when
+        managerService.deleteManager(authUser(owner), todo.getId(), saved.getId());
+
+        // then
+        assertEquals(1L, managerCount());
+    }
+
+    @Test
+    void 일정_작성자가_아니면_담당자를_등록할_수_없고_엔티티를_로딩하지_않는다() {
+        // given
+        Statistics statistics = clearedStatistics();
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> managerService.saveManager(authUser(managerUser), todo.getId(), new ManagerSaveRequest(owner.getId())));
+        assertEquals("담당자를 등록하려고 하는 유저가 유효하지 않거나, 일정을 만든 유저가 아닙니다.", exception.getMessage());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void 일정_작성자가_아니면_담당자를_삭제할_수_없고_엔티티를_로딩하지_않는다() {
+        // given
+        ManagerSaveResponse saved = managerService.saveManager(
+                authUser(owner), todo.getId(), new ManagerSaveRequest(managerUser.getId()));
+        Statistics statistics = clearedStatistics();
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> managerService.deleteManager(authUser(managerUser), todo.getId(), saved.getId()));
+        assertEquals("해당 일정을 만든 유저가 유효하지 않습니다.", exception.getMessage());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(2L, managerCount());
+    }
+
+    @Test
+    void 존재하지_않는_담당자는_삭제할_수_없고_엔티티를_로딩하지_않는다() {
+        // given
+        Statistics statistics = clearedStatistics();
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> managerService.deleteManager(authUser(owner), todo.getId(), Long.MAX_VALUE));
+        assertEquals("Manager not found", exception.getMessage());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void 다른_일정의_담당자는_삭제할_수_없고_엔티티를_로딩하지_않는다() {
+        // given: 같은 작성자의 다른 일정에 등록된 담당자
+        Todo otherTodo = todoRepository.save(new Todo("other", "contents", "Sunny", owner));
+        ManagerSaveResponse otherManager = managerService.saveManager(
+                authUser(owner), otherTodo.getId(), new ManagerSaveRequest(managerUser.getId()));
+        Statistics statistics = clearedStatistics();
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> managerService.deleteManager(authUser(owner), todo.getId(), otherManager.getId()));
+        assertEquals("해당 일정에 등록된 담당자가 아닙니다.", exception.getMessage());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(1L, managerCount());
+    }
+
+    @Test
+    void 담당자_목록은_Todo_엔티티를_로딩하지_않고_조회한다() {
+        // given
+        managerService.saveManager(authUser(owner), todo.getId(), new ManagerSaveRequest(managerUser.getId()));
+        Statistics statistics = clearedStatistics();
+
+        // when
+        List<ManagerResponse> managers = managerService.getManagers(todo.getId());
+
+        // then
+        assertEquals(2, managers.size());
+        assertEquals(0, statistics.getEntityStatistics(Todo.class.getName()).getLoadCount());
+    }
+
+    @Test
+    void 존재하지_않는_일정의_담당자_목록은_조회할_수_없다() {
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> managerService.getManagers(Long.MAX_VALUE));
+        assertEquals("Todo not found", exception.getMessage());
+    }
+
+    private Statistics clearedStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private long managerCount() {
+        return todoRepository.findById(todo.getId()).orElseThrow().getManagerCount();
+    }
+
+    private User saveUser(String nickname) {
+        return userRepository.save(new User(nickname, nickname + "-" + UUID.randomUUID() + "@example.com", "password", UserRole.USER));
+    }
+
+    private static AuthUser authUser(User user) {
+        return new AuthUser(user.getId(), user.getNickname(), user.getEmail(), user.getUserRole());
+    }
+}
@@ -1,14 +1,21 @@
 package org.example.expert.domain.todo.controller;
 
+import org.example.expert.config.AuthUserCache;
+import org.example.expert.config.JwtRejectionRecorder;
+import org.example.expert.config.JwtUtil;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.service.TodoDetailService;
+import org.example.expert.domain.todo.service.TodoExportService;
+import org.example.expert.domain.todo.service.TodoImportService;
 import org.example.expert.domain.todo.service.TodoService;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.HttpStatus;
@@ -21,7 +28,9 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+// 인증 필터는 별도 테스트 대상이므로 컨트롤러 동작만 검증
 @WebMvcTest(TodoController.class)
+@AutoConfigureMockMvc(addFilters = false)
 class TodoControllerTest {
 
     @Autowired
@@ -30,6 +39,25 @@ class TodoControllerTest {
     @MockBean
     private TodoService todoService;
 
+    @MockBean
+    private TodoImportService todoImportService;
+
+    @MockBean
+    private TodoExportService todoExportService;
+
+    @MockBean
+    private TodoDetailService todoDetailService;
+
+    // JwtFilter 의존 빈
+    @MockBean
+    private JwtUtil jwtUtil;
+
+    @MockBean
+    private AuthUserCache authUserCache;
+
+    @MockBean
+    private JwtRejectionRecorder jwtRejectionRecorder;
+
     @Test
     void todo_단건_조회에_성공한다() throws Exception {
         // given
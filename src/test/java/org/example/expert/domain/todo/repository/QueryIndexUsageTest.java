@@ -0,0 +1,104 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.request.TodoSearchCondition;
+import org.example.expert.support.SqlStatementCounter;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 주요 조회 쿼리의 실행 계획(H2 EXPLAIN) 검사
+ * - Flyway 마이그레이션으로 만든 인덱스를 사용하는지, 전체 스캔(tableScan)이 없는지 확인
+ * - Repository/QueryDSL을 실제로 호출해 Hibernate가 생성한 SQL을 SqlStatementCounter로 잡아 EXPLAIN
+ *   (바인딩 파라미터는 ?로 남긴 채 실행 계획만 확인)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-index;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=org.example.expert.support.SqlStatementCounter"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryIndexUsageTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2024, 12, 31, 23, 59, 59);
+    private static final Cursor CURSOR = new Cursor(LocalDateTime.of(2024, 6, 1, 0, 0), 100L);
+    private static final TodoSearchCondition NO_CONDITION = new TodoSearchCondition(null, null, null, null, null, null, null);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    Stream<Arguments> queries() {
+        return Stream.of(
+                Arguments.of("findAllByOrderByModifiedAtDesc", "idx_todos_modified_at_id",
+                        (Runnable) () -> todoRepository.findAllByOrderByModifiedAtDesc(PageRequest.of(0, 10))),
+                Arguments.of("findByWeatherAndDateRange", "idx_todos_weather_modified_at",
+                        (Runnable) () -> todoRepository.findByWeatherAndDateRange("Sunny", FROM, TO, PageRequest.of(0, 10))),
+                Arguments.of("findByWeather", "idx_todos_weather_modified_at",
+                        (Runnable) () -> todoRepository.findByWeather("Sunny", PageRequest.of(0, 10))),
+                Arguments.of("findByDateRange", "idx_todos_modified_at_id",
+                        (Runnable) () -> todoRepository.findByDateRange(FROM, TO, PageRequest.of(0, 10))),
+                Arguments.of("findTodosByCursor (첫 페이지)", "idx_todos_modified_at_id",
+                        (Runnable) () -> todoRepository.findTodosByCursor(null, 10, null, null, null)),
+                Arguments.of("findTodosByCursor (다음 페이지)", "idx_todos_modified_at_id",
+                        (Runnable) () -> todoRepository.findTodosByCursor(CURSOR, 10, null, null, null)),
+                Arguments.of("searchTodos", "idx_todos_created_at_id",
+                        (Runnable) () -> todoRepository.searchTodos(1, 10,
+                                new TodoSearchCondition(null, FROM, TO, null, null, null, null))),
+                Arguments.of("searchTodosByCursor (첫 페이지)", "idx_todos_created_at_id",
+                        (Runnable) () -> todoRepository.searchTodosByCursor(null, 10, NO_CONDITION)),
+                Arguments.of("searchTodosByCursor (다음 페이지)", "idx_todos_created_at_id",
+                        (Runnable) () -> todoRepository.searchTodosByCursor(CURSOR, 10, NO_CONDITION)),
+                // H2는 FK용 인덱스(fk_comments_todo_id_index_*)를 따로 만들어 그쪽을 고를 수 있으므로 todo_id 인덱스면 통과
+                Arguments.of("CommentRepository.findByTodoIdWithUser", "comments_todo_id",
+                        (Runnable) () -> commentRepository.findByTodoIdWithUser(1L)),
+                Arguments.of("ManagerRepository.findByTodoIdWithUser", "idx_managers_todo_id_user_id",
+                        (Runnable) () -> managerRepository.findByTodoIdWithUser(1L))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    void 조회_쿼리는_전체_스캔_없이_인덱스를_사용한다(String queryName, String expectedIndex, Runnable query) {
+        // given: Repository가 실제로 실행한 SQL (Page 조회의 count 쿼리는 제외하고 ORDER BY가 있는 본 조회만)
+        SqlStatementCounter.reset();
+        query.run();
+        List<String> selects = SqlStatementCounter.statements().stream()
+                .filter(sql -> !sql.toLowerCase().contains("count("))
+                .toList();
+        assertFalse(selects.isEmpty(), queryName + " 에서 실행된 SQL이 없습니다.");
+
+        for (String sql : selects) {
+            // when
+            List<String> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class);
+            String planText = String.join("\n", plan).toLowerCase();
+
+            // then
+            assertTrue(planText.contains(expectedIndex), queryName + " 실행 계획에 " + expectedIndex + " 가 없습니다.\n" + planText);
+            assertFalse(planText.contains("tablescan"), queryName + " 실행 계획에 전체 스캔이 있습니다.\n" + planText);
+        }
+    }
+}
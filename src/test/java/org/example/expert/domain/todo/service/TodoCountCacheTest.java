@@ -0,0 +1,52 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.dto.request.TodoListCondition;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TodoCountCacheTest {
+
+    private final TodoRepository todoRepository = mock(TodoRepository.class);
+    private final TodoCountCache todoCountCache =
+            new TodoCountCache(todoRepository, 100, Duration.ofMinutes(1), Duration.ofMinutes(10));
+
+    @Test
+    void 같은_조건의_개수는_캐시에서_반환하고_count_쿼리는_한_번만_실행한다() {
+        // given
+        when(todoRepository.countByWeather("Sunny")).thenReturn(3L);
+
+        // when
+        long first = todoCountCache.getCount(TodoListCondition.of("Sunny", null, null));
+        long second = todoCountCache.getCount(TodoListCondition.of("Sunny", null, null));
+
+        // then
+        assertEquals(3L, first);
+        assertEquals(3L, second);
+        verify(todoRepository, times(1)).countByWeather("Sunny");
+    }
+
+    @Test
+    void 조건마다_맞는_count_쿼리로_따로_집계한다() {
+        // given
+        LocalDate day = LocalDate.of(2024, 1, 1);
+        TodoListCondition dateRange = TodoListCondition.of(null, day, day);
+        when(todoRepository.count()).thenReturn(10L);
+        when(todoRepository.countByModifiedAtBetween(dateRange.getStartDate(), dateRange.getEndDate())).thenReturn(2L);
+
+        // when & then: 빈 weather와 잘못된 날짜 범위는 조건 없음과 같은 키
+        assertEquals(10L, todoCountCache.getCount(TodoListCondition.of(null, null, null)));
+        assertEquals(10L, todoCountCache.getCount(TodoListCondition.of(" ", day.plusDays(1), day)));
+        assertEquals(2L, todoCountCache.getCount(dateRange));
+        verify(todoRepository, times(1)).count();
+        verify(todoRepository, times(1)).countByModifiedAtBetween(dateRange.getStartDate(), dateRange.getEndDate());
+    }
+}
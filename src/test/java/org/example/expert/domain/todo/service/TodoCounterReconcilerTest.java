@@ -0,0 +1,66 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class TodoCounterReconcilerTest {
+
+    @Autowired
+    private TodoCounterReconciler todoCounterReconciler;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private WeatherClient weatherClient;
+
+    @Test
+    void 어긋난_집계_컬럼을_실제_댓글_수와_담당자_수로_다시_맞춘다() {
+        // given: 댓글 2개, 담당자 1명(작성자)인 Todo의 집계 값이 어긋난 상태
+        User user = userRepository.save(new User("reconciler", "reconciler-" + UUID.randomUUID() + "@example.com", "password", UserRole.USER));
+        Todo drifted = todoRepository.save(new Todo("drifted", "contents", "Sunny", user));
+        Todo negative = todoRepository.save(new Todo("negative", "contents", "Sunny", user));
+        commentRepository.saveAll(List.of(new Comment("first", user, drifted), new Comment("second", user, drifted)));
+        jdbcTemplate.update("UPDATE todos SET comment_count = 99, manager_count = 0 WHERE id = ?", drifted.getId());
+        jdbcTemplate.update("UPDATE todos SET comment_count = -1, manager_count = -1 WHERE id = ?", negative.getId());
+
+        // when
+        todoCounterReconciler.reconcile();
+
+        // then
+        assertCounts(drifted.getId(), 2L, 1L);
+        assertCounts(negative.getId(), 0L, 1L);
+    }
+
+    private void assertCounts(long todoId, long commentCount, long managerCount) {
+        Todo todo = todoRepository.findById(todoId).orElseThrow();
+        assertEquals(commentCount, todo.getCommentCount());
+        assertEquals(managerCount, todo.getManagerCount());
+    }
+}
@@ -0,0 +1,204 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoDetailResponse;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TodoDetailServiceTest {
+
+    private static final long TODO_ID = 1L;
+    private static final int COMMENT_PAGE_SIZE = 20;
+
+    private final TodoRepository todoRepository = mock(TodoRepository.class);
+    private final CommentService commentService = mock(CommentService.class);
+    private final ManagerRepository managerRepository = mock(ManagerRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    private TodoDetailService todoDetailService;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        if (todoDetailService != null) {
+            todoDetailService.shutdown();
+        }
+    }
+
+    @Test
+    void Todo_댓글_담당자를_서로_다른_스레드에서_동시에_조회해_합친다() throws Exception {
+        // given: 세 조회가 모두 도착해야 통과하는 장벽 (순차 실행이면 시간 초과)
+        todoDetailService = newService(3, 10, 5000);
+        CyclicBarrier barrier = new CyclicBarrier(3);
+        Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        when(todoRepository.findByIdWithUser(TODO_ID)).thenAnswer(invocation -> {
+            threadNames.add(Thread.currentThread().getName());
+            barrier.await(3, TimeUnit.SECONDS);
+            return todoResponse();
+        });
+        when(commentService.getCommentsByCursor(TODO_ID, null, COMMENT_PAGE_SIZE)).thenAnswer(invocation -> {
+            threadNames.add(Thread.currentThread().getName());
+            barrier.await(3, TimeUnit.SECONDS);
+            return new CursorResponse<>(List.of(), "next", true);
+        });
+        when(managerRepository.findByTodoIdWithUser(TODO_ID)).thenAnswer(invocation -> {
+            threadNames.add(Thread.currentThread().getName());
+            barrier.await(3, TimeUnit.SECONDS);
+            return List.of(manager());
+        });
+
+        // when
+        TodoDetailResponse response = todoDetailService.getTodoDetail(TODO_ID);
+
+        // then
+        assertEquals(3, threadNames.size());
+        assertEquals(TODO_ID, response.getTodo().getId());
+        assertEquals("next", response.getComments().getNextCursor());
+        assertEquals(1, response.getManagers().size());
+    }
+
+    @Test
+    void 요청_스레드의_SecurityContext를_조회_스레드로_전달한다() {
+        // given
+        todoDetailService = newService(3, 10, 5000);
+        Authentication authentication = new TestingAuthenticationToken("user", null);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        AtomicReference<Authentication> seen = new AtomicReference<>();
+        when(todoRepository.findByIdWithUser(TODO_ID)).thenAnswer(invocation -> {
+            seen.set(SecurityContextHolder.getContext().getAuthentication());
+            return todoResponse();
+        });
+        stubCommentsAndManagers();
+
+        // when
+        todoDetailService.getTodoDetail(TODO_ID);
+
+        // then
+        assertSame(authentication, seen.get());
+    }
+
+    @Test
+    void Todo가_없으면_404_예외가_발생한다() {
+        // given
+        todoDetailService = newService(3, 10, 5000);
+        when(todoRepository.findByIdWithUser(TODO_ID)).thenReturn(null);
+        stubCommentsAndManagers();
+
+        // when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoDetailService.getTodoDetail(TODO_ID));
+        assertEquals("Todo not found", exception.getMessage());
+    }
+
+    @Test
+    void 제한_시간_안에_끝나지_않으면_예외가_발생하고_조회_트랜잭션에도_시간_제한이_걸린다() {
+        // given
+        todoDetailService = newService(3, 10, 1500);
+        CountDownLatch release = new CountDownLatch(1);
+        when(todoRepository.findByIdWithUser(TODO_ID)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return todoResponse();
+        });
+        stubCommentsAndManagers();
+
+        // when
+        ServerException exception;
+        try {
+            exception = assertThrows(ServerException.class, () -> todoDetailService.getTodoDetail(TODO_ID));
+        } finally {
+            release.countDown();
+        }
+
+        // then: 1500ms는 2초로 올려 JDBC 쿼리 타임아웃으로 적용됨
+        assertEquals("Todo 상세 조회 시간이 초과되었습니다.", exception.getMessage());
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, atLeastOnce()).getTransaction(definition.capture());
+        definition.getAllValues().forEach(value -> {
+            assertTrue(value.isReadOnly());
+            assertEquals(2, value.getTimeout());
+        });
+    }
+
+    @Test
+    void 풀과_대기열이_가득_차면_요청_스레드에서_직접_조회한다() {
+        // given: 작업 스레드 1개, 대기열 1칸 → 세 번째 조회(담당자)는 거절되어 요청 스레드에서 실행
+        todoDetailService = newService(1, 1, 5000);
+        CountDownLatch managersDone = new CountDownLatch(1);
+        AtomicReference<Thread> managersThread = new AtomicReference<>();
+        when(todoRepository.findByIdWithUser(TODO_ID)).thenAnswer(invocation -> {
+            managersDone.await(3, TimeUnit.SECONDS);
+            return todoResponse();
+        });
+        when(commentService.getCommentsByCursor(TODO_ID, null, COMMENT_PAGE_SIZE))
+                .thenReturn(new CursorResponse<>(List.of(), null, false));
+        when(managerRepository.findByTodoIdWithUser(TODO_ID)).thenAnswer(invocation -> {
+            managersThread.set(Thread.currentThread());
+            managersDone.countDown();
+            return List.of();
+        });
+
+        // when
+        TodoDetailResponse response = todoDetailService.getTodoDetail(TODO_ID);
+
+        // then
+        assertSame(Thread.currentThread(), managersThread.get());
+        assertNotNull(response.getTodo());
+    }
+
+    private TodoDetailService newService(int threads, int queueCapacity, long timeoutMillis) {
+        return new TodoDetailService(todoRepository, commentService, managerRepository, transactionManager,
+                threads, queueCapacity, timeoutMillis, COMMENT_PAGE_SIZE);
+    }
+
+    private void stubCommentsAndManagers() {
+        when(commentService.getCommentsByCursor(TODO_ID, null, COMMENT_PAGE_SIZE))
+                .thenReturn(new CursorResponse<>(List.of(), null, false));
+        when(managerRepository.findByTodoIdWithUser(TODO_ID)).thenReturn(List.of());
+    }
+
+    private static TodoResponse todoResponse() {
+        return new TodoResponse(TODO_ID, "title", "contents", "Sunny", new UserResponse(1L, "email"),
+                LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    private static Manager manager() {
+        User user = User.fromAuthUser(new AuthUser(1L, "nickname", "email", UserRole.USER));
+        return new Manager(user, null);
+    }
+}
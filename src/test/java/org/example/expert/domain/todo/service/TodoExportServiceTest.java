@@ -0,0 +1,137 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 적은 데이터로 여러 chunk를 거치도록 chunk 크기를 줄임
+@SpringBootTest(properties = "todo.export.chunk-size=2")
+class TodoExportServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Autowired
+    private TodoExportService todoExportService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private WeatherClient weatherClient;
+
+    @Test
+    void 전체_Todo를_한_줄에_하나씩_작성자와_댓글_담당자를_포함해_내보낸다() throws Exception {
+        // given
+        User user = userRepository.save(new User("exporter", "exporter-" + UUID.randomUUID() + "@example.com", "password", UserRole.USER));
+        List<Long> todoIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Todo todo = todoRepository.save(new Todo("export" + i, "contents", "Sunny", user));
+            commentRepository.saveAll(List.of(new Comment("first", user, todo), new Comment("second", user, todo)));
+            todoIds.add(todo.getId());
+        }
+        long todoCount = todoRepository.count();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        todoExportService.exportTo(outputStream);
+
+        // then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(todoCount, lines.length);
+
+        Map<Long, JsonNode> rowsById = new HashMap<>();
+        for (String line : lines) {
+            JsonNode row = objectMapper.readTree(line);
+            rowsById.put(row.get("id").asLong(), row);
+        }
+        for (Long todoId : todoIds) {
+            JsonNode row = rowsById.get(todoId);
+            assertEquals(user.getEmail(), row.get("user").get("email").asText());
+            assertEquals(2, row.get("comments").size());
+            assertEquals(1, row.get("managers").size());
+        }
+    }
+
+    @Test
+    void chunk_단위로_id_순으로_읽고_트랜잭션을_반납한_뒤에_출력한다() {
+        // given: 여러 chunk에 걸치도록 댓글이 달린 Todo를 저장
+        User user = userRepository.save(new User("exporter", "exporter-" + UUID.randomUUID() + "@example.com", "password", UserRole.USER));
+        for (int i = 0; i < CHUNK_SIZE * 2; i++) {
+            Todo todo = todoRepository.save(new Todo("export" + i, "contents", "Sunny", user));
+            commentRepository.saveAll(List.of(new Comment("first", user, todo), new Comment("second", user, todo)));
+        }
+        ChunkRecordingOutputStream outputStream = new ChunkRecordingOutputStream();
+
+        // when
+        todoExportService.exportTo(outputStream);
+
+        // then: chunk마다 chunk-size 이하로, 이전 chunk 다음 id부터 이어서 출력되고, 출력 중에는 트랜잭션이 없음
+        assertTrue(outputStream.writtenIds.size() >= 2);
+        long previousId = 0;
+        for (List<Long> ids : outputStream.writtenIds) {
+            assertTrue(ids.size() <= CHUNK_SIZE);
+            for (Long id : ids) {
+                assertTrue(id > previousId);
+                previousId = id;
+            }
+        }
+        assertEquals(List.of(false), outputStream.transactionActive.stream().distinct().toList());
+    }
+
+    // flush(= chunk 하나를 다 쓴 시점)마다 새로 쓴 Todo id와 트랜잭션 진행 여부를 기록
+    private class ChunkRecordingOutputStream extends ByteArrayOutputStream {
+
+        private final List<List<Long>> writtenIds = new ArrayList<>();
+        private final List<Boolean> transactionActive = new ArrayList<>();
+        private int flushedLength;
+
+        @Override
+        public void flush() throws IOException {
+            String written = new String(toByteArray(), flushedLength, size() - flushedLength, StandardCharsets.UTF_8);
+            flushedLength = size();
+            if (written.isEmpty()) {
+                return;
+            }
+
+            List<Long> ids = new ArrayList<>();
+            for (String line : written.split("\n")) {
+                ids.add(objectMapper.readTree(line).get("id").asLong());
+            }
+            writtenIds.add(ids);
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+        }
+    }
+}
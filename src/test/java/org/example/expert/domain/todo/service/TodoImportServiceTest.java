@@ -0,0 +1,153 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.todo.dto.response.TodoImportError;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 적은 줄 수로 chunk 경계, 오류 상한, 줄 길이 제한을 확인하기 위해 설정값을 줄임
+@SpringBootTest(properties = {
+        "todo.import.chunk-size=2",
+        "todo.import.max-errors=2",
+        "todo.import.max-line-length=1000"
+})
+class TodoImportServiceTest {
+
+    @Autowired
+    private TodoImportService todoImportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private WeatherClient weatherClient;
+
+    private AuthUser authUser;
+    private String titlePrefix;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(new User("importer", "importer-" + UUID.randomUUID() + "@example.com", "password", UserRole.USER));
+        authUser = new AuthUser(user.getId(), user.getNickname(), user.getEmail(), user.getUserRole());
+        titlePrefix = "import-" + UUID.randomUUID() + "-";
+        when(weatherClient.getTodayWeather()).thenReturn("Sunny");
+    }
+
+    @Test
+    void chunk_단위로_날씨를_한_번씩_조회해_저장한다() {
+        // given
+        String body = line(1) + line(2) + line(3) + line(4) + line(5);
+
+        // when
+        TodoImportResponse response = importTodos(body);
+
+        // then: 2 + 2 + 1건으로 나뉘어 저장
+        assertEquals(5, response.getImportedCount());
+        assertEquals(0, response.getFailedCount());
+        assertEquals(5, importedRows());
+        verify(weatherClient, times(3)).getTodayWeather();
+    }
+
+    @Test
+    void 저장에_실패한_chunk만_실패로_기록하고_앞선_chunk는_커밋된_상태로_남는다() {
+        // given: 두 번째 chunk의 제목이 컬럼 길이(255)를 넘어 저장 실패
+        String tooLongTitle = titlePrefix + "x".repeat(300);
+        String body = line(1) + line(2)
+                + line(3) + "{\"title\":\"" + tooLongTitle + "\",\"contents\":\"contents\"}\n";
+
+        // when
+        TodoImportResponse response = importTodos(body);
+
+        // then
+        assertEquals(2, response.getImportedCount());
+        assertEquals(2, response.getFailedCount());
+        assertEquals(List.of(3L, 4L), response.getErrors().stream().map(TodoImportError::getLine).toList());
+        assertEquals(2, importedRows());
+    }
+
+    @Test
+    void 형식이나_검증_오류가_있는_줄은_건너뛰고_줄_번호와_사유를_남긴다() {
+        // given
+        String body = "{not json\n"
+                + line(2)
+                + "{\"title\":\"\",\"contents\":\"contents\"}\n"
+                + "\n"
+                + line(5);
+
+        // when
+        TodoImportResponse response = importTodos(body);
+
+        // then
+        assertEquals(2, response.getImportedCount());
+        assertEquals(2, response.getFailedCount());
+        assertEquals(1L, response.getErrors().get(0).getLine());
+        assertEquals("JSON 형식이 올바르지 않습니다.", response.getErrors().get(0).getMessage());
+        assertEquals(3L, response.getErrors().get(1).getLine());
+        assertEquals(2, importedRows());
+    }
+
+    @Test
+    void 오류_상세는_max_errors건까지만_담고_실패_건수는_모두_센다() {
+        // given
+        String body = "{bad\n{bad\n{bad\n{bad\n" + line(5);
+
+        // when
+        TodoImportResponse response = importTodos(body);
+
+        // then
+        assertEquals(1, response.getImportedCount());
+        assertEquals(4, response.getFailedCount());
+        assertEquals(List.of(1L, 2L), response.getErrors().stream().map(TodoImportError::getLine).toList());
+    }
+
+    @Test
+    void 최대_길이를_넘는_줄은_버리고_다음_줄부터_이어서_처리한다() {
+        // given
+        String oversized = "{\"title\":\"" + "x".repeat(2000) + "\",\"contents\":\"contents\"}\n";
+        String body = line(1) + oversized + line(3) + "\r\n";
+
+        // when
+        TodoImportResponse response = importTodos(body);
+
+        // then
+        assertEquals(2, response.getImportedCount());
+        assertEquals(1, response.getFailedCount());
+        assertEquals(2L, response.getErrors().get(0).getLine());
+        assertEquals("한 줄의 길이가 1000자를 넘습니다.", response.getErrors().get(0).getMessage());
+        assertEquals(2, importedRows());
+    }
+
+    private TodoImportResponse importTodos(String body) {
+        return todoImportService.importTodos(authUser, new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private String line(int number) {
+        return "{\"title\":\"" + titlePrefix + number + "\",\"contents\":\"contents\"}\n";
+    }
+
+    private long importedRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM todos WHERE title LIKE ?", Long.class, titlePrefix + "%");
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.repository.TodoTitleView;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TodoSearchIndexTest {
+
+    private final TodoRepository todoRepository = mock(TodoRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    // DB에 커밋된 Todo 행을 흉내냄
+    private final List<TodoTitleView> committedTodos = new CopyOnWriteArrayList<>();
+
+    private TodoSearchIndex todoSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        todoSearchIndex = new TodoSearchIndex(todoRepository, userRepository);
+        ReflectionTestUtils.setField(todoSearchIndex, "maxCandidates", 1000);
+        ReflectionTestUtils.setField(todoSearchIndex, "freshnessMarginMs", 60_000L);
+
+        when(todoRepository.findTop1000ByIdGreaterThanOrderByIdAsc(any())).thenAnswer(invocation -> {
+            Long lastId = invocation.getArgument(0);
+            return committedTodos.stream()
+                    .filter(view -> view.getId() > lastId)
+                    .limit(1000)
+                    .toList();
+        });
+    }
+
+    @Test
+    void 적재_전에는_색인을_사용하지_않는다() {
+        // given
+        todoSearchIndex.indexTodo(1L, "title");
+
+        // when & then
+        assertNull(todoSearchIndex.findTodoIdsByTitle("title"));
+        assertNull(todoSearchIndex.getIndexedBefore());
+    }
+
+    @Test
+    void 적재_후에는_DB에_있던_행과_이후_저장된_행을_모두_찾는다() {
+        // given
+        committedTodos.add(titleView(1L, "first todo"));
+        todoSearchIndex.rebuild();
+
+        // when
+        todoSearchIndex.indexTodo(2L, "second todo");
+
+        // then
+        assertEquals(Set.of(1L, 2L), todoSearchIndex.findTodoIdsByTitle("todo"));
+    }
+
+    @Test
+    void 적재_시작_시각에서_여유_시간만큼_앞선_시점까지를_색인_범위로_본다() {
+        // given
+        LocalDateTime before = LocalDateTime.now();
+
+        // when
+        todoSearchIndex.rebuild();
+
+        // then
+        LocalDateTime indexedBefore = todoSearchIndex.getIndexedBefore();
+        assertNotNull(indexedBefore);
+        assertFalse(indexedBefore.isBefore(before.minusSeconds(60)));
+        assertTrue(indexedBefore.isBefore(LocalDateTime.now().minusSeconds(59)));
+    }
+
+    @Test
+    void 후보가_maxCandidates를_넘으면_색인을_사용하지_않는다() {
+        // given
+        ReflectionTestUtils.setField(todoSearchIndex, "maxCandidates", 2);
+        committedTodos.add(titleView(1L, "todo 1"));
+        committedTodos.add(titleView(2L, "todo 2"));
+        todoSearchIndex.rebuild();
+
+        // when & then
+        assertEquals(Set.of(1L, 2L), todoSearchIndex.findTodoIdsByTitle("todo"));
+
+        todoSearchIndex.indexTodo(3L, "todo 3");
+        assertNull(todoSearchIndex.findTodoIdsByTitle("todo"));
+        assertEquals(Set.of(3L), todoSearchIndex.findTodoIdsByTitle("todo 3"));
+    }
+
+    @Test
+    void 재적재와_동시에_저장된_행이_색인에서_누락되지_않는다() throws Exception {
+        // given
+        int todoCount = 500;
+        todoSearchIndex.rebuild();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        AtomicBoolean done = new AtomicBoolean();
+        Future<?> rebuilder = executor.submit(() -> {
+            while (!done.get()) {
+                todoSearchIndex.rebuild();
+            }
+        });
+
+        // when: 커밋 → 커밋 후 색인 반영 순서로 저장
+        for (long id = 1; id <= todoCount; id++) {
+            committedTodos.add(titleView(id, "todo-" + id + "-end"));
+            todoSearchIndex.indexTodo(id, "todo-" + id + "-end");
+        }
+        done.set(true);
+        rebuilder.get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        for (long id = 1; id <= todoCount; id++) {
+            assertEquals(Set.of(id), todoSearchIndex.findTodoIdsByTitle("todo-" + id + "-end"), "누락된 id: " + id);
+        }
+    }
+
+    private static TodoTitleView titleView(long id, String title) {
+        return new TodoTitleView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getTitle() {
+                return title;
+            }
+        };
+    }
+}
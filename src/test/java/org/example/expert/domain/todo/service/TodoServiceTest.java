@@ -0,0 +1,112 @@
+package org.example.expert.domain.todo.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.Cursor;
+import org.example.expert.domain.common.dto.SliceResponse;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class TodoServiceTest {
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @MockBean
+    private WeatherClient weatherClient;
+
+    @Test
+    void todo_저장_시_날씨_조회_중에는_트랜잭션과_DB_커넥션을_점유하지_않는다() throws SQLException {
+        // given
+        User user = userRepository.save(new User("nickname", "weather@example.com", "password", UserRole.USER));
+        AuthUser authUser = new AuthUser(user.getId(), user.getNickname(), user.getEmail(), user.getUserRole());
+        HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+
+        AtomicBoolean transactionActive = new AtomicBoolean(true);
+        AtomicInteger activeConnections = new AtomicInteger(-1);
+        when(weatherClient.getTodayWeather()).thenAnswer(invocation -> {
+            transactionActive.set(TransactionSynchronizationManager.isActualTransactionActive());
+            activeConnections.set(pool.getActiveConnections());
+            return "Sunny";
+        });
+
+        // when
+        TodoSaveResponse response = todoService.saveTodo(authUser, new TodoSaveRequest("title", "contents"));
+
+        // then
+        assertFalse(transactionActive.get());
+        assertEquals(0, activeConnections.get());
+        assertEquals("Sunny", response.getWeather());
+        assertTrue(todoRepository.findById(response.getId()).isPresent());
+    }
+
+    @Test
+    void slice_조회는_다음_페이지가_있을_때만_hasNext가_true이고_요청한_경우에만_전체_개수를_반환한다() {
+        // given: 다른 테스트 데이터와 섞이지 않도록 고유한 weather로 3건 저장
+        User user = userRepository.save(new User("slicer", "slicer-" + UUID.randomUUID() + "@example.com", "password", UserRole.USER));
+        String weather = "Slice-" + UUID.randomUUID();
+        for (int i = 0; i < 3; i++) {
+            todoRepository.save(new Todo("slice" + i, "contents", weather, user));
+        }
+
+        // when
+        SliceResponse<TodoResponse> first = todoService.getTodoSlice(1, 2, weather, null, null, true);
+        SliceResponse<TodoResponse> last = todoService.getTodoSlice(2, 2, weather, null, null, false);
+
+        // then
+        assertEquals(2, first.getContent().size());
+        assertTrue(first.isHasNext());
+        assertEquals(3L, first.getTotalElements());
+        assertEquals(1, last.getContent().size());
+        assertFalse(last.isHasNext());
+        assertNull(last.getTotalElements());
+    }
+
+    @Test
+    void 커서_조회_개수가_상한을_넘으면_예외가_발생한다() {
+        // when & then
+        assertThrows(InvalidRequestException.class,
+                () -> todoService.getTodosByCursor(null, Cursor.MAX_SIZE + 1, null, null, null));
+        assertThrows(InvalidRequestException.class,
+                () -> todoService.getTodosByCursor(null, Integer.MAX_VALUE, null, null, null));
+        assertThrows(InvalidRequestException.class,
+                () -> todoService.searchTodosByCursor(null, Integer.MAX_VALUE, null, null, null, null));
+    }
+}
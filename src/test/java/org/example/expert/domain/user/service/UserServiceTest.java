@@ -0,0 +1,156 @@
+package org.example.expert.domain.user.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.config.PasswordHasher;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.user.dto.request.UserChangePasswordRequest;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 적은 요청으로 시도 횟수 제한을 확인하기 위해 허용 횟수를 줄임
+@SpringBootTest(properties = "user.password-change.max-attempts=" + UserServiceTest.MAX_ATTEMPTS)
+@AutoConfigureMockMvc
+class UserServiceTest {
+
+    static final int MAX_ATTEMPTS = 3;
+    private static final String OLD_PASSWORD = "Password1234";
+    private static final String NEW_PASSWORD = "NewPassword1234";
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @SpyBean
+    private PasswordHasher passwordHasher;
+
+    @Test
+    void 기존_비밀번호는_해시_검증_한_번으로_확인하고_새_비밀번호를_한_번_해시한다() {
+        // given
+        User user = saveUser();
+
+        // when
+        userService.changePassword(user.getId(), new UserChangePasswordRequest(OLD_PASSWORD, NEW_PASSWORD));
+
+        // then
+        verify(passwordHasher, times(1)).matches(any(), any());
+        verify(passwordHasher, times(1)).encode(any());
+    }
+
+    @Test
+    void 새_비밀번호가_기존_비밀번호와_같으면_추가_해시_없이_거절한다() {
+        // given
+        User user = saveUser();
+
+        // when & then
+        assertThrows(InvalidRequestException.class,
+                () -> userService.changePassword(user.getId(), new UserChangePasswordRequest(OLD_PASSWORD, OLD_PASSWORD)));
+        verify(passwordHasher, times(1)).matches(any(), any());
+        verify(passwordHasher, never()).encode(any());
+    }
+
+    @Test
+    void 시도_횟수를_넘으면_비밀번호_검증_없이_429를_응답한다() throws Exception {
+        // given
+        User user = saveUser();
+        String bearerToken = jwtUtil.createToken(user.getId(), user.getNickname(), user.getEmail(), user.getUserRole());
+        String body = objectMapper.writeValueAsString(new UserChangePasswordRequest("Wrong1234", NEW_PASSWORD));
+
+        // when & then: 허용 횟수까지는 비밀번호 검증 후 실패(404), 그 다음부터는 검증 전에 429
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            mockMvc.perform(put("/users").header("Authorization", bearerToken)
+                            .contentType(MediaType.APPLICATION_JSON).content(body))
+                    .andExpect(status().isNotFound());
+        }
+        mockMvc.perform(put("/users").header("Authorization", bearerToken)
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isTooManyRequests());
+        verify(passwordHasher, times(MAX_ATTEMPTS)).matches(any(), any());
+    }
+
+    @Test
+    void 비밀번호_변경_시_검증과_해시는_트랜잭션_밖에서_수행하고_새_해시를_저장한다() {
+        // given
+        User user = saveUser();
+        List<Boolean> transactionActive = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return invocation.callRealMethod();
+        }).when(passwordHasher).matches(any(), any());
+        doAnswer(invocation -> {
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return invocation.callRealMethod();
+        }).when(passwordHasher).encode(any());
+
+        // when
+        userService.changePassword(user.getId(), new UserChangePasswordRequest(OLD_PASSWORD, NEW_PASSWORD));
+
+        // then
+        assertEquals(List.of(false, false), transactionActive);
+        String storedPassword = userRepository.findById(user.getId()).orElseThrow().getPassword();
+        assertTrue(passwordHasher.matches(NEW_PASSWORD, storedPassword));
+    }
+
+    @Test
+    void 해시하는_동안_비밀번호가_변경되면_덮어쓰지_않고_예외가_발생한다() {
+        // given
+        User user = saveUser();
+        String changedPassword = new BCryptPasswordEncoder(4).encode("Changed1234");
+
+        // 새 비밀번호를 해시하는 동안 다른 요청이 비밀번호를 바꾼 상황
+        doAnswer(invocation -> {
+            Object encoded = invocation.callRealMethod();
+            userRepository.findById(user.getId()).ifPresent(current -> {
+                current.changePassword(changedPassword);
+                userRepository.saveAndFlush(current);
+            });
+            return encoded;
+        }).when(passwordHasher).encode(any());
+
+        // when & then
+        assertThrows(InvalidRequestException.class,
+                () -> userService.changePassword(user.getId(), new UserChangePasswordRequest(OLD_PASSWORD, NEW_PASSWORD)));
+        assertEquals(changedPassword, userRepository.findById(user.getId()).orElseThrow().getPassword());
+    }
+
+    private User saveUser() {
+        String encodedPassword = new BCryptPasswordEncoder(4).encode(OLD_PASSWORD);
+        return userRepository.save(new User("changer", "changer-" + UUID.randomUUID() + "@example.com", encodedPassword, UserRole.USER));
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.expert.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 현재 스레드에서 Hibernate가 실행한 SQL 수를 센다
+ * - spring.jpa.properties.hibernate.session_factory.statement_inspector 로 등록
+ * - MockMvc 요청은 테스트 스레드에서 처리되므로 다른 스레드(스케줄러 등)의 쿼리는 섞이지 않음
+ * - 요청이 작업 스레드로 조회를 나누는 경우(Todo 상세 조회 등)는 count(스레드 이름 접두사)로 그 스레드들의 쿼리까지 합산
+ * - 실행 계획 검사용으로 현재 스레드에서 실행한 SQL 원문도 보관 (statements)
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Integer> COUNT = ThreadLocal.withInitial(() -> 0);
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+    private static final Map<String, AtomicInteger> COUNT_BY_THREAD_NAME = new ConcurrentHashMap<>();
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.set(COUNT.get() + 1);
+        STATEMENTS.get().add(sql);
+        COUNT_BY_THREAD_NAME.computeIfAbsent(Thread.currentThread().getName(), name -> new AtomicInteger()).incrementAndGet();
+        return sql;
+    }
+
+    public static void reset() {
+        COUNT.set(0);
+        STATEMENTS.get().clear();
+        COUNT_BY_THREAD_NAME.clear();
+    }
+
+    public static int count() {
+        return COUNT.get();
+    }
+
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS.get());
+    }
+
+    public static int count(String workerThreadNamePrefix) {
+        int workerCount = COUNT_BY_THREAD_NAME.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(workerThreadNamePrefix))
+                .mapToInt(entry -> entry.getValue().get())
+                .sum();
+        return count() + workerCount;
+    }
+}